@@ -0,0 +1,68 @@
+package com.project.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+    
+    /**
+     * 게시글 상세 묶음 조회(이미지/댓글/좋아요 병렬 조회)용 스레드 풀.
+     * 큐가 가득 차면 호출 스레드에서 직접 실행해 요청이 실패하지 않고 순차 처리로 느려지게 한다.
+     */
+    @Bean(name = "postDetailExecutor")
+    public ThreadPoolTaskExecutor postDetailExecutor(
+            @Value("${post.detail.executor.core-size:4}") int coreSize,
+            @Value("${post.detail.executor.max-size:8}") int maxSize,
+            @Value("${post.detail.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * 게시글 삭제 커밋 후 이미지 파일 정리용 스레드 풀.
+     * 파일 삭제는 실패해도 DB에는 영향이 없으므로 요청 스레드와 트랜잭션 밖에서 처리한다.
+     */
+    @Bean(name = "fileCleanupExecutor")
+    public ThreadPoolTaskExecutor fileCleanupExecutor(
+            @Value("${file.cleanup.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-cleanup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * 비밀번호 해시/검증(BCrypt) 전용 스레드 풀.
+     * 로그인 폭주가 Tomcat 요청 스레드의 CPU를 독점하지 않도록 동시 해시 개수를 제한하고,
+     * 큐가 가득 차면 호출 스레드에서 실행하지 않고 바로 거절한다. (PasswordHasher에서 503으로 변환)
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${password.hash.executor.pool-size:2}") int poolSize,
+            @Value("${password.hash.executor.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JWT 필터가 요청마다 한 번 검증한 뒤 SecurityContext에 넣는 인증 주체.
+ * 컨트롤러는 Authorization 헤더를 직접 파싱하지 않고 @AuthenticationPrincipal로 받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthUser {
+    private final Long userId;
+    private final String username;
+    private final String role;
+}
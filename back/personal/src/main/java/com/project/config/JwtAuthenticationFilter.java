@@ -1,14 +1,18 @@
 package com.project.config;
 
-import com.project.entity.User;
-import com.project.repository.UserRepository;
+import com.project.service.SecurityVersionRegistry;
+import com.project.service.TokenRevocationSet;
+import com.project.service.UserSecurityCache;
 import com.project.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -16,8 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -25,7 +28,9 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserSecurityCache userSecurityCache;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final TokenRevocationSet tokenRevocationSet;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -40,6 +45,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (requestPath.startsWith("/uploads/images/") || 
             requestPath.equals("/api/users/signup") || 
             requestPath.equals("/api/users/login") ||
+            requestPath.equals("/api/users/refresh") ||
+            requestPath.equals("/api/users/logout") ||
             "OPTIONS".equals(method)) {
             System.out.println("JWT Filter - 제외된 경로, 필터 건너뛰기");
             filterChain.doFilter(request, response);
@@ -47,74 +54,98 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        Claims claims = null;
         
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
+            // 요청당 한 번만 서명 검증 + 파싱
             try {
-                username = jwtUtil.getUsernameFromToken(token);
+                claims = jwtUtil.parseClaims(authHeader.substring(7));
+            } catch (ExpiredJwtException e) {
+                // 만료된 액세스 토큰 - 클라이언트가 리프레시 토큰으로 갱신하도록 401
+                writeUnauthorized(response, "토큰이 만료되었습니다.");
+                return;
             } catch (Exception e) {
                 logger.error("JWT Token validation error: " + e.getMessage());
             }
         }
         
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validateToken(token)) {
-                try {
-                    // 사용자 정지 상태 확인
-                    String suspensionMessage = checkUserSuspensionStatus(username);
-                    if (suspensionMessage != null) {
-                        // 정지된 사용자인 경우 401 Unauthorized 응답
-                        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                        response.setContentType("application/json;charset=UTF-8");
-                        response.getWriter().write("{\"error\":\"" + suspensionMessage + "\"}");
-                        return;
-                    }
-                    
-                    UsernamePasswordAuthenticationToken authToken = 
-                        new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                } catch (Exception e) {
-                    logger.error("User suspension check error: " + e.getMessage());
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && claims.get(JwtUtil.CLAIM_SECURITY_VERSION) != null) {
+            // 권한/보안 버전을 담은 토큰 - 메모리 비교만으로 인가 (DB 조회 없음)
+            Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+            String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+            long version = claims.get(JwtUtil.CLAIM_SECURITY_VERSION, Long.class);
+            
+            if (!securityVersionRegistry.isValid(userId, version)) {
+                // 정지/권한 변경 등으로 무효화된 토큰
+                writeUnauthorized(response, "계정 상태가 변경되었습니다. 다시 로그인해주세요.");
+                return;
+            }
+            if (securityVersionRegistry.issuedBeforeStartup(claims.getIssuedAt())
+                    && !isExistingUser(claims.getSubject(), userId)) {
+                // 재기동 전에 발급된 토큰 - 그 사이 삭제된 사용자인지 캐시된 상태로 확인
+                writeUnauthorized(response, "사용자를 찾을 수 없습니다.");
+                return;
+            }
+            if (tokenRevocationSet.isRevoked(claims.get(JwtUtil.CLAIM_FAMILY_ID, String.class))) {
+                // 로그아웃 또는 리프레시 토큰 재사용으로 폐기된 세션
+                writeUnauthorized(response, "로그아웃된 세션입니다. 다시 로그인해주세요.");
+                return;
+            }
+            
+            AuthUser principal = new AuthUser(userId, claims.getSubject(), role);
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        } else if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 이전 형식 토큰 - 캐시된 사용자 상태로 확인
+            try {
+                // 캐시된 보안 상태로 확인 (캐시 적중 시 DB 조회 없음)
+                Optional<UserSecurityCache.State> stateOpt = userSecurityCache.get(claims.getSubject());
+                
+                // 사용자 정지 상태 확인
+                String suspensionMessage = stateOpt.isEmpty()
+                        ? "사용자를 찾을 수 없습니다."
+                        : checkUserSuspensionStatus(stateOpt.get());
+                if (suspensionMessage != null) {
+                    // 정지된 사용자인 경우 401 Unauthorized 응답
+                    writeUnauthorized(response, suspensionMessage);
+                    return;
                 }
+                
+                UserSecurityCache.State state = stateOpt.get();
+                AuthUser principal = new AuthUser(state.getUserId(), state.getUsername(), state.getRole());
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + state.getRole())));
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            } catch (Exception e) {
+                logger.error("User suspension check error: " + e.getMessage());
             }
         }
         
         filterChain.doFilter(request, response);
     }
     
-    private String checkUserSuspensionStatus(String username) {
-        Optional<User> userOpt = userRepository.findByUsername(username);
-        if (userOpt.isEmpty()) {
-            return "사용자를 찾을 수 없습니다.";
-        }
-        
-        User user = userOpt.get();
-        
-        // 정지 상태 확인
-        if (user.getIsSuspended() != null && user.getIsSuspended()) {
-            // 영구 정지인 경우 (suspensionEndTime이 null)
-            if (user.getSuspensionEndTime() == null) {
-                return "영구 정지된 계정입니다. 관리자에게 문의하세요.";
-            }
-            // 기간 정지인 경우
-            else if (user.getSuspensionEndTime().isAfter(LocalDateTime.now())) {
-                // 정지 시간 포맷팅
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분");
-                String formattedEndTime = user.getSuspensionEndTime().format(formatter);
-                
-                return "계정이 정지되었습니다. 정지 해제 시간: " + formattedEndTime;
-            } else {
-                // 정지 시간이 지났으면 정지 해제
-                user.setIsSuspended(false);
-                user.setSuspensionEndTime(null);
-                user.setSuspensionReason(null);
-                userRepository.save(user);
-            }
+    private void writeUnauthorized(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+    
+    private boolean isExistingUser(String username, Long userId) {
+        // 같은 username으로 다시 가입한 사용자와 구분하기 위해 id까지 비교
+        return userSecurityCache.get(username)
+                .map(state -> state.getUserId().equals(userId))
+                .orElse(false);
+    }
+    
+    private String checkUserSuspensionStatus(UserSecurityCache.State state) {
+        // 정지 기간이 지난 사용자는 정지되지 않은 것으로 본다 (DB 해제는 SuspensionExpirySweeper가 처리)
+        if (state.isSuspendedAt(LocalDateTime.now())) {
+            return state.suspensionMessage();
         }
-        
         return null; // 정지되지 않음
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.project.config;
+
+import com.project.util.TokenBucketLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 빈도 제한 필터 (JwtAuthenticationFilter 다음에 실행).
+ * 조회수/좋아요/댓글 작성/로그인 요청을 엔드포인트 종류별 토큰 버킷으로 제한하고,
+ * 로그인한 사용자는 사용자 ID, 그 외에는 IP 단위로 버킷을 나눈다.
+ * 제한 대상이 아닌 요청은 문자열 비교만 하고 통과한다. 초과 시 429 + Retry-After.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private final TokenBucketLimiter limiter;
+    private final boolean enabled;
+    private final Limit view;
+    private final Limit reaction;
+    private final Limit comment;
+    private final Limit login;
+    
+    private static class Limit {
+        private final String name;
+        private final int capacity;
+        private final double refillPerSecond;
+        
+        private Limit(String name, int capacity, double refillPerSecond) {
+            this.name = name;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+    
+    public RateLimitFilter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.stripes:64}") int stripes,
+                           @Value("${rate-limit.view.capacity:30}") int viewCapacity,
+                           @Value("${rate-limit.view.refill-per-second:1}") double viewRefill,
+                           @Value("${rate-limit.reaction.capacity:20}") int reactionCapacity,
+                           @Value("${rate-limit.reaction.refill-per-second:1}") double reactionRefill,
+                           @Value("${rate-limit.comment.capacity:10}") int commentCapacity,
+                           @Value("${rate-limit.comment.refill-per-second:0.2}") double commentRefill,
+                           @Value("${rate-limit.login.capacity:10}") int loginCapacity,
+                           @Value("${rate-limit.login.refill-per-second:0.1}") double loginRefill) {
+        this.enabled = enabled;
+        this.limiter = new TokenBucketLimiter(stripes);
+        this.view = new Limit("view", viewCapacity, viewRefill);
+        this.reaction = new Limit("reaction", reactionCapacity, reactionRefill);
+        this.comment = new Limit("comment", commentCapacity, commentRefill);
+        this.login = new Limit("login", loginCapacity, loginRefill);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        Limit limit = enabled ? classify(request) : null;
+        if (limit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        long waitNanos = limiter.tryAcquire(limit.name + ":" + clientKey(request, limit), limit.capacity, limit.refillPerSecond);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"error\":\"요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.\"}");
+            return;
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    @Scheduled(fixedDelayString = "${rate-limit.prune-interval-ms:60000}")
+    public void prune() {
+        limiter.prune();
+    }
+    
+    private Limit classify(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/posts/")) {
+            if (path.endsWith("/view") || path.endsWith("/open")) {
+                return view;
+            }
+            if (path.endsWith("/like") || path.endsWith("/dislike")) {
+                return reaction;
+            }
+            if (path.endsWith("/comments")) {
+                return comment;
+            }
+            return null;
+        }
+        
+        if (path.equals("/api/users/login") || path.equals("/api/users/signup") || path.equals("/api/users/refresh")) {
+            return login;
+        }
+        return null;
+    }
+    
+    private String clientKey(HttpServletRequest request, Limit limit) {
+        // 로그인 계열은 아직 사용자가 없으므로 항상 IP 기준
+        if (limit != login) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthUser) {
+                return "u" + ((AuthUser) authentication.getPrincipal()).getUserId();
+            }
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+}
@@ -1,13 +1,20 @@
 package com.project.controller;
 
-import com.project.dto.AdminUserResponse;
+import com.project.config.AuthUser;
+import com.project.dto.AdminUserPageResponse;
+import com.project.dto.CacheStatsResponse;
+import com.project.dto.PasswordHashStatsResponse;
 import com.project.dto.SuspendUserRequest;
 import com.project.dto.UpdateRoleRequest;
 import com.project.service.AdminService;
+import com.project.service.AdminUserQuery;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,16 +26,32 @@ public class AdminController {
     private final AdminService adminService;
     
     @GetMapping("/users")
-    public ResponseEntity<?> getAllUsers(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+    public ResponseEntity<?> getUsers(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "role", required = false) String role,
+            @RequestParam(value = "suspended", required = false) Boolean suspended,
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(value = "q", required = false) String query,
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
-            List<AdminUserResponse> users = adminService.getAllUsers(username);
-            return ResponseEntity.ok(users);
+            // 가입일 범위는 날짜 단위 (createdTo 당일 포함)
+            AdminUserQuery.Filter filter = AdminUserQuery.Filter.builder()
+                    .role(role)
+                    .suspended(suspended)
+                    .createdFrom(createdFrom != null ? createdFrom.atStartOfDay() : null)
+                    .createdTo(createdTo != null ? createdTo.plusDays(1).atStartOfDay() : null)
+                    .query(query)
+                    .build();
+            
+            String username = authUser.getUsername();
+            AdminUserPageResponse page = adminService.getUsers(username, filter, cursor, size);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
@@ -38,13 +61,13 @@ public class AdminController {
     @PostMapping("/users/suspend")
     public ResponseEntity<?> suspendUser(
             @RequestBody SuspendUserRequest request,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.suspendUser(request.getUserId(), request.getSuspensionMinutes(), request.getReason(), adminUsername);
             
             String message = (request.getSuspensionMinutes() == null || request.getSuspensionMinutes() == -1) 
@@ -61,13 +84,13 @@ public class AdminController {
     @PostMapping("/users/{userId}/unsuspend")
     public ResponseEntity<?> unsuspendUser(
             @PathVariable Long userId,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.unsuspendUser(userId, adminUsername);
             return ResponseEntity.ok().body("{\"message\":\"사용자 정지가 해제되었습니다.\"}");
         } catch (Exception e) {
@@ -79,13 +102,13 @@ public class AdminController {
     @PostMapping("/users/role")
     public ResponseEntity<?> updateUserRole(
             @RequestBody UpdateRoleRequest request,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.updateUserRole(request.getUserId(), request.getRole(), adminUsername);
             return ResponseEntity.ok().body("{\"message\":\"사용자 역할이 변경되었습니다.\"}");
         } catch (Exception e) {
@@ -97,13 +120,13 @@ public class AdminController {
     @DeleteMapping("/users/{userId}")
     public ResponseEntity<?> deleteUser(
             @PathVariable Long userId,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.deleteUser(userId, adminUsername);
             return ResponseEntity.ok().body("{\"message\":\"사용자가 삭제되었습니다.\"}");
         } catch (Exception e) {
@@ -115,13 +138,13 @@ public class AdminController {
     @DeleteMapping("/posts/{postId}")
     public ResponseEntity<?> deletePost(
             @PathVariable Long postId,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.deletePostAsAdmin(postId, adminUsername);
             return ResponseEntity.ok().body("{\"message\":\"게시글이 삭제되었습니다.\"}");
         } catch (Exception e) {
@@ -130,15 +153,66 @@ public class AdminController {
         }
     }
     
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStats(
+            @AuthenticationPrincipal AuthUser authUser) {
+        try {
+            if (authUser == null) {
+                return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
+            }
+            
+            String adminUsername = authUser.getUsername();
+            List<CacheStatsResponse> stats = adminService.getCacheStats(adminUsername);
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
+    @GetMapping("/password-hash-stats")
+    public ResponseEntity<?> getPasswordHashStats(
+            @AuthenticationPrincipal AuthUser authUser) {
+        try {
+            if (authUser == null) {
+                return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
+            }
+            
+            String adminUsername = authUser.getUsername();
+            PasswordHashStatsResponse stats = adminService.getPasswordHashStats(adminUsername);
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<?> rebuildSearchIndex(
+            @AuthenticationPrincipal AuthUser authUser) {
+        try {
+            if (authUser == null) {
+                return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
+            }
+            
+            String adminUsername = authUser.getUsername();
+            int count = adminService.rebuildSearchIndex(adminUsername);
+            return ResponseEntity.ok().body("{\"message\":\"검색 색인이 재구축되었습니다.\",\"indexedPosts\":" + count + "}");
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
     @GetMapping("/check-role")
     public ResponseEntity<?> checkAdminRole(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String username = authUser.getUsername();
             boolean isAdmin = adminService.isAdmin(username);
             String userRole = adminService.getUserRole(username);
             return ResponseEntity.ok().body("{\"isAdmin\":" + isAdmin + ",\"role\":\"" + userRole + "\"}");
@@ -151,13 +225,13 @@ public class AdminController {
     public ResponseEntity<?> suspendPostAuthor(
             @PathVariable Long postId,
             @RequestBody SuspendUserRequest request,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.suspendPostAuthor(postId, request.getSuspensionMinutes(), request.getReason(), adminUsername);
             return ResponseEntity.ok().body("{\"message\":\"게시글 작성자가 정지되었습니다.\"}");
         } catch (Exception e) {
@@ -170,13 +244,13 @@ public class AdminController {
     public ResponseEntity<?> suspendCommentAuthor(
             @PathVariable Long commentId,
             @RequestBody SuspendUserRequest request,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.suspendCommentAuthor(commentId, request.getSuspensionMinutes(), request.getReason(), adminUsername);
             return ResponseEntity.ok().body("{\"message\":\"댓글 작성자가 정지되었습니다.\"}");
         } catch (Exception e) {
@@ -188,13 +262,13 @@ public class AdminController {
     @DeleteMapping("/comments/{commentId}")
     public ResponseEntity<?> deleteComment(
             @PathVariable Long commentId,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String adminUsername = adminService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String adminUsername = authUser.getUsername();
             adminService.deleteCommentAsAdmin(commentId, adminUsername);
             return ResponseEntity.ok().body("{\"message\":\"댓글이 삭제되었습니다.\"}");
         } catch (Exception e) {
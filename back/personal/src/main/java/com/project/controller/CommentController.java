@@ -1,10 +1,12 @@
 package com.project.controller;
 
+import com.project.config.AuthUser;
 import com.project.dto.CommentRequest;
 import com.project.dto.CommentResponse;
 import com.project.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,14 +23,14 @@ public class CommentController {
     public ResponseEntity<?> updateComment(
             @PathVariable Long commentId,
             @RequestBody CommentRequest request,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            CommentResponse comment = postService.updateComment(commentId, request.getContent(), username);
+            String username = authUser.getUsername();
+            CommentResponse comment = postService.updateComment(commentId, request.getContent(), authUser.getUserId(), username);
             return ResponseEntity.ok(comment);
         } catch (Exception e) {
             e.printStackTrace();
@@ -42,14 +44,14 @@ public class CommentController {
     @DeleteMapping("/{commentId}")
     public ResponseEntity<?> deleteComment(
             @PathVariable Long commentId,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            postService.deleteComment(commentId, username);
+            String username = authUser.getUsername();
+            postService.deleteComment(commentId, authUser.getUserId(), username);
             return ResponseEntity.ok().body("{\"message\":\"댓글이 삭제되었습니다.\"}");
         } catch (Exception e) {
             e.printStackTrace();
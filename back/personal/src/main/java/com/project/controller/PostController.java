@@ -1,18 +1,30 @@
 package com.project.controller;
 
+import com.project.config.AuthUser;
 import com.project.dto.PostCreateRequest;
 import com.project.dto.PostResponse;
+import com.project.dto.PostDetailResponse;
+import com.project.dto.PostPageResponse;
+import com.project.dto.PostSummaryResponse;
+import com.project.dto.PostSearchResponse;
 import com.project.dto.PostImageResponse;
 import com.project.dto.PostLikeResponse;
 import com.project.dto.CommentRequest;
+import com.project.dto.CommentPageResponse;
 import com.project.dto.CommentResponse;
 import com.project.service.PostService;
+import com.project.service.PostVersionTracker;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -23,37 +35,95 @@ public class PostController {
     private final PostService postService;
     
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
+    public ResponseEntity<List<PostSummaryResponse>> getAllPosts(
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
         try {
-            List<PostResponse> posts = postService.getAllPosts();
-            return ResponseEntity.ok(posts);
+            // 피드 버전이 같으면 DB 조회 없이 304 응답
+            PostVersionTracker.Version version = postService.getFeedVersion();
+            if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+                return notModified();
+            }
+            
+            List<PostSummaryResponse> posts = postService.getAllPosts(size);
+            return ResponseEntity.ok()
+                    .eTag(version.getETag())
+                    .lastModified(version.getLastModified())
+                    .body(posts);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
+    @GetMapping("/feed")
+    public ResponseEntity<?> getPostFeed(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        try {
+            PostVersionTracker.Version version = postService.getFeedVersion();
+            if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+                return notModified();
+            }
+            
+            PostPageResponse page = postService.getPostFeed(cursor, size);
+            return ResponseEntity.ok()
+                    .eTag(version.getETag())
+                    .lastModified(version.getLastModified())
+                    .body(page);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingPosts(
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            List<PostSummaryResponse> posts = postService.getTrendingPosts(size);
+            return ResponseEntity.ok(posts);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            PostSearchResponse result = postService.searchPosts(query, page, size);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
     @PostMapping
     public ResponseEntity<?> createPost(
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam(value = "images", required = false) List<MultipartFile> images,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
             System.out.println("POST /api/posts 호출됨");
             System.out.println("Title: " + title);
             System.out.println("Content: " + content);
             System.out.println("Images count: " + (images != null ? images.size() : 0));
-            System.out.println("Token: " + (token != null ? "Bearer ***" : "null"));
+            System.out.println("User: " + (authUser != null ? authUser.getUsername() : "null"));
             
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 System.out.println("인증 토큰이 없거나 잘못됨");
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
+            String username = authUser.getUsername();
             System.out.println("Username: " + username);
             
-            PostResponse post = postService.createPost(title, content, images, username);
+            PostResponse post = postService.createPost(title, content, images, authUser.getUserId(), username);
             System.out.println("게시글 작성 성공: " + post.getId());
             return ResponseEntity.ok(post);
         } catch (Exception e) {
@@ -67,10 +137,21 @@ public class PostController {
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable Long id) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long id, WebRequest webRequest) {
         try {
+            // 알려진 버전이 있으면 DB 조회 없이 304 여부 판단
+            PostVersionTracker.Version known = postService.peekPostVersion(id);
+            if (known != null && webRequest.checkNotModified(known.getETag(), known.getLastModified())) {
+                return notModified();
+            }
+            
+            // 버전을 먼저 확정한 뒤 조회 (조회 중 변경되면 다음 요청에서 버전 불일치로 재전송됨)
+            PostVersionTracker.Version version = postService.getPostVersion(id);
             PostResponse post = postService.getPost(id);
-            return ResponseEntity.ok(post);
+            return ResponseEntity.ok()
+                    .eTag(version.getETag())
+                    .lastModified(version.getLastModified())
+                    .body(post);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -79,14 +160,12 @@ public class PostController {
     @PostMapping("/{id}/view")
     public ResponseEntity<?> increaseViewCount(
             @PathVariable Long id,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser,
+            HttpServletRequest request) {
         try {
-            String username = null;
-            if (token != null && token.startsWith("Bearer ")) {
-                username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            }
+            Long userId = authUser != null ? authUser.getUserId() : null;
             
-            postService.increaseViewCount(id, username);
+            postService.increaseViewCount(id, userId, request.getRemoteAddr());
             return ResponseEntity.ok().body("{\"message\":\"조회수가 증가되었습니다.\"}");
         } catch (Exception e) {
             e.printStackTrace();
@@ -94,6 +173,22 @@ public class PostController {
         }
     }
     
+    @PostMapping("/{id}/open")
+    public ResponseEntity<?> openPost(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthUser authUser,
+            HttpServletRequest request) {
+        try {
+            Long userId = authUser != null ? authUser.getUserId() : null;
+            
+            PostDetailResponse detail = postService.openPost(id, userId, request.getRemoteAddr());
+            return ResponseEntity.ok(detail);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
     @GetMapping("/{id}/images")
     public ResponseEntity<List<PostImageResponse>> getPostImages(@PathVariable Long id) {
         try {
@@ -110,14 +205,14 @@ public class PostController {
             @RequestParam("title") String title,
             @RequestParam("content") String content,
             @RequestParam(value = "images", required = false) List<MultipartFile> images,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            PostResponse post = postService.updatePost(id, title, content, images, username);
+            String username = authUser.getUsername();
+            PostResponse post = postService.updatePost(id, title, content, images, authUser.getUserId(), username);
             return ResponseEntity.ok(post);
         } catch (Exception e) {
             e.printStackTrace();
@@ -131,14 +226,14 @@ public class PostController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deletePost(
             @PathVariable Long id,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            postService.deletePost(id, username);
+            String username = authUser.getUsername();
+            postService.deletePost(id, authUser.getUserId(), username);
             return ResponseEntity.ok().body("{\"message\":\"게시글이 삭제되었습니다.\"}");
         } catch (Exception e) {
             e.printStackTrace();
@@ -152,20 +247,23 @@ public class PostController {
     @PostMapping("/{id}/like")
     public ResponseEntity<?> likePost(
             @PathVariable Long id,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            PostLikeResponse response = postService.toggleLike(id, username);
+            String username = authUser.getUsername();
+            PostLikeResponse response = postService.toggleLike(id, authUser.getUserId(), username);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             e.printStackTrace();
             if (e.getMessage() != null && e.getMessage().startsWith("SUSPENDED:")) {
                 return ResponseEntity.status(401).body("{\"message\":\"" + e.getMessage().replace("SUSPENDED:", "") + "\"}");
             }
+            if (e.getMessage() != null && e.getMessage().startsWith("BUSY:")) {
+                return ResponseEntity.status(503).body("{\"message\":\"" + e.getMessage().replace("BUSY:", "") + "\"}");
+            }
             return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
         }
     }
@@ -173,20 +271,23 @@ public class PostController {
     @PostMapping("/{id}/dislike")
     public ResponseEntity<?> dislikePost(
             @PathVariable Long id,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            PostLikeResponse response = postService.toggleDislike(id, username);
+            String username = authUser.getUsername();
+            PostLikeResponse response = postService.toggleDislike(id, authUser.getUserId(), username);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             e.printStackTrace();
             if (e.getMessage() != null && e.getMessage().startsWith("SUSPENDED:")) {
                 return ResponseEntity.status(401).body("{\"message\":\"" + e.getMessage().replace("SUSPENDED:", "") + "\"}");
             }
+            if (e.getMessage() != null && e.getMessage().startsWith("BUSY:")) {
+                return ResponseEntity.status(503).body("{\"message\":\"" + e.getMessage().replace("BUSY:", "") + "\"}");
+            }
             return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
         }
     }
@@ -194,14 +295,13 @@ public class PostController {
     @GetMapping("/{id}/like-status")
     public ResponseEntity<?> getLikeStatus(
             @PathVariable Long id,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            PostLikeResponse response = postService.getLikeStatus(id, username);
+            PostLikeResponse response = postService.getLikeStatus(id, authUser.getUserId());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             e.printStackTrace();
@@ -212,9 +312,36 @@ public class PostController {
         }
     }
     
+    @GetMapping("/like-status")
+    public ResponseEntity<?> getLikeStatuses(
+            @RequestParam("ids") List<Long> ids,
+            @AuthenticationPrincipal AuthUser authUser) {
+        try {
+            Long userId = authUser != null ? authUser.getUserId() : null;
+            
+            Map<Long, PostLikeResponse> statuses = postService.getLikeStatuses(ids, userId);
+            return ResponseEntity.ok(statuses);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
+    /**
+     * cursor/size 파라미터가 없으면 기존처럼 전체 댓글 트리,
+     * 있으면 루트 댓글 커서 페이지 (대댓글 수 + 앞쪽 대댓글 미리보기)
+     */
     @GetMapping("/{id}/comments")
-    public ResponseEntity<?> getComments(@PathVariable Long id) {
+    public ResponseEntity<?> getComments(
+            @PathVariable Long id,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
+            if (cursor != null || size != null) {
+                CommentPageResponse page = postService.getCommentPage(id, cursor, size);
+                return ResponseEntity.ok(page);
+            }
+            
             List<CommentResponse> comments = postService.getComments(id);
             return ResponseEntity.ok(comments);
         } catch (Exception e) {
@@ -223,18 +350,33 @@ public class PostController {
         }
     }
     
+    @GetMapping("/{id}/comments/{commentId}/replies")
+    public ResponseEntity<?> getReplies(
+            @PathVariable Long id,
+            @PathVariable Long commentId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            CommentPageResponse page = postService.getReplyPage(id, commentId, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
     @PostMapping("/{id}/comments")
     public ResponseEntity<?> createComment(
             @PathVariable Long id,
             @RequestBody CommentRequest request,
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @AuthenticationPrincipal AuthUser authUser) {
         try {
-            if (token == null || !token.startsWith("Bearer ")) {
+            if (authUser == null) {
                 return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
             }
             
-            String username = postService.getUsernameFromToken(token.replace("Bearer ", ""));
-            CommentResponse comment = postService.createComment(id, request.getContent(), request.getParentId(), username);
+            String username = authUser.getUsername();
+            CommentResponse comment = postService.createComment(id, request.getContent(), request.getParentId(), authUser.getUserId(), username);
             return ResponseEntity.ok(comment);
         } catch (Exception e) {
             e.printStackTrace();
@@ -245,5 +387,8 @@ public class PostController {
         }
     }
     
-
+    // ETag/Last-Modified 헤더는 checkNotModified가 이미 응답에 설정함
+    private <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
 }
\ No newline at end of file
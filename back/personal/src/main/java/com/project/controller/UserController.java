@@ -1,9 +1,11 @@
 package com.project.controller;
 
+import com.project.config.AuthUser;
 import com.project.dto.LoginRequest;
 import com.project.dto.LoginResponse;
 import com.project.dto.SignupRequest;
 import com.project.dto.SignupResponse;
+import com.project.dto.TokenRefreshRequest;
 import com.project.dto.UpdateProfileRequest;
 import com.project.dto.ChangePasswordRequest;
 import com.project.dto.ChangeUsernameRequest;
@@ -11,6 +13,7 @@ import com.project.dto.UserProfileResponse;
 import com.project.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
 
@@ -35,6 +38,13 @@ public class UserController {
                 return ResponseEntity.badRequest().body(response);
             }
         } catch (Exception e) {
+            if (e.getMessage() != null && e.getMessage().startsWith("BUSY:")) {
+                // 비밀번호 해시 풀 포화 - 바로 503으로 거절
+                SignupResponse busyResponse = new SignupResponse();
+                busyResponse.setSuccess(false);
+                busyResponse.setMessage(e.getMessage().replace("BUSY:", ""));
+                return ResponseEntity.status(503).body(busyResponse);
+            }
             System.out.println("회원가입 오류: " + e.getMessage());
             e.printStackTrace();
             SignupResponse errorResponse = new SignupResponse();
@@ -52,6 +62,14 @@ public class UserController {
         } catch (Exception e) {
             // 정지 메시지인 경우 그대로 전달, 그 외에는 일반 로그인 실패 메시지
             String message = e.getMessage();
+            if (message != null && message.startsWith("BUSY:")) {
+                // 비밀번호 검증 풀 포화 - 바로 503으로 거절
+                return ResponseEntity.status(503)
+                    .body(LoginResponse.builder()
+                        .success(false)
+                        .message(message.replace("BUSY:", ""))
+                        .build());
+            }
             if (message != null && (message.contains("🚫 계정이") || 
                                    message.contains("영구적으로 사용이 제한") ||
                                    message.contains("정지 해제 시간:") ||
@@ -74,10 +92,39 @@ public class UserController {
         }
     }
     
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody TokenRefreshRequest request) {
+        try {
+            LoginResponse response = userService.refresh(request.getRefreshToken());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            // 리프레시 실패는 다시 로그인해야 하므로 401
+            return ResponseEntity.status(401)
+                .body(LoginResponse.builder()
+                    .success(false)
+                    .message(e.getMessage() != null ? e.getMessage().replace("SUSPENDED:", "") : "토큰 갱신에 실패했습니다.")
+                    .build());
+        }
+    }
+    
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody TokenRefreshRequest request) {
+        try {
+            userService.logout(request.getRefreshToken());
+            return ResponseEntity.ok().body("{\"message\":\"로그아웃되었습니다.\"}");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage() + "\"}");
+        }
+    }
+    
     @GetMapping("/profile")
-    public ResponseEntity<UserProfileResponse> getProfile(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<UserProfileResponse> getProfile(@AuthenticationPrincipal AuthUser authUser) {
         try {
-            String username = userService.getUsernameFromToken(token.replace("Bearer ", ""));
+            if (authUser == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            
+            String username = authUser.getUsername();
             // 사용자 정지 상태 확인
             userService.checkUserSuspensionStatus(username);
             UserProfileResponse profile = userService.getUserProfile(username);
@@ -95,9 +142,13 @@ public class UserController {
     
     @PutMapping("/change-username")
     public ResponseEntity<?> changeUsername(@RequestBody ChangeUsernameRequest request,
-                                          @RequestHeader("Authorization") String token) {
+                                          @AuthenticationPrincipal AuthUser authUser) {
         try {
-            String currentUsername = userService.getUsernameFromToken(token.replace("Bearer ", ""));
+            if (authUser == null) {
+                return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
+            }
+            
+            String currentUsername = authUser.getUsername();
             // 사용자 정지 상태 확인
             userService.checkUserSuspensionStatus(currentUsername);
             userService.changeUsername(currentUsername, request);
@@ -112,9 +163,13 @@ public class UserController {
     
     @PutMapping("/update-profile")
     public ResponseEntity<?> updateProfile(@RequestBody UpdateProfileRequest request, 
-                                         @RequestHeader("Authorization") String token) {
+                                         @AuthenticationPrincipal AuthUser authUser) {
         try {
-            String username = userService.getUsernameFromToken(token.replace("Bearer ", ""));
+            if (authUser == null) {
+                return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
+            }
+            
+            String username = authUser.getUsername();
             // 사용자 정지 상태 확인
             userService.checkUserSuspensionStatus(username);
             userService.updateProfile(username, request);
@@ -129,14 +184,21 @@ public class UserController {
     
     @PutMapping("/change-password")
     public ResponseEntity<?> changePassword(@RequestBody ChangePasswordRequest request,
-                                          @RequestHeader("Authorization") String token) {
+                                          @AuthenticationPrincipal AuthUser authUser) {
         try {
-            String username = userService.getUsernameFromToken(token.replace("Bearer ", ""));
+            if (authUser == null) {
+                return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
+            }
+            
+            String username = authUser.getUsername();
             // 사용자 정지 상태 확인
             userService.checkUserSuspensionStatus(username);
             userService.changePassword(username, request);
             return ResponseEntity.ok().body("{\"message\":\"비밀번호가 변경되었습니다.\"}");
         } catch (Exception e) {
+            if (e.getMessage() != null && e.getMessage().startsWith("BUSY:")) {
+                return ResponseEntity.status(503).body("{\"message\":\"" + e.getMessage().replace("BUSY:", "") + "\"}");
+            }
             if (e.getMessage().startsWith("SUSPENDED:")) {
                 return ResponseEntity.badRequest().body("{\"message\":\"" + e.getMessage().replace("SUSPENDED:", "") + "\"}");
             }
@@ -145,9 +207,13 @@ public class UserController {
     }
     
     @DeleteMapping("/delete-account")
-    public ResponseEntity<?> deleteAccount(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<?> deleteAccount(@AuthenticationPrincipal AuthUser authUser) {
         try {
-            String username = userService.getUsernameFromToken(token.replace("Bearer ", ""));
+            if (authUser == null) {
+                return ResponseEntity.badRequest().body("{\"message\":\"인증이 필요합니다.\"}");
+            }
+            
+            String username = authUser.getUsername();
             userService.deleteAccount(username);
             return ResponseEntity.ok().body("{\"message\":\"회원탈퇴가 완료되었습니다.\"}");
         } catch (Exception e) {
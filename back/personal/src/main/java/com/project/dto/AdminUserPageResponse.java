@@ -0,0 +1,17 @@
+package com.project.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class AdminUserPageResponse {
+    private List<AdminUserResponse> users;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int size;
+    private Long totalCount;         // 첫 페이지에서만 계산 (이후 페이지는 null)
+    private Boolean totalCountExact; // false면 추정치 또는 하한값
+}
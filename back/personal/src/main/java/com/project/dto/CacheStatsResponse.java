@@ -0,0 +1,17 @@
+package com.project.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheStatsResponse {
+    private String name;
+    private int size;
+    private long weight; // 추정 바이트
+    private long maxWeight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+}
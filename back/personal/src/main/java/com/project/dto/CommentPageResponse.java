@@ -0,0 +1,15 @@
+package com.project.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CommentPageResponse {
+    private List<CommentResponse> comments;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private int size;
+}
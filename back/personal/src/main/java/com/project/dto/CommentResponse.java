@@ -16,4 +16,5 @@ public class CommentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private java.util.List<CommentResponse> replies; // 대댓글 목록
+    private Integer replyCount; // 직계 대댓글 수 (페이지 조회 시에만 채움)
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ public class LoginResponse {
     private boolean success;
     private String message;
     private String token;
+    private String refreshToken;
     private String username;
     private String nickname;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.project.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PasswordHashStatsResponse {
+    private int bcryptStrength;
+    private int poolSize;
+    private int activeCount;
+    private int queueDepth;
+    private int queueCapacity;
+    private long completedCount;
+    private long rejectedCount;
+    private long timeoutCount;
+    private long rehashCount;
+    private double avgHashMillis;  // 해시/검증 자체 소요 시간
+    private double maxHashMillis;
+    private double avgWaitMillis;  // 큐 대기 시간
+}
@@ -0,0 +1,18 @@
+package com.project.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 화면 묶음 응답 (게시글 + 이미지 + 댓글 + 좋아요 상태)
+ */
+@Data
+@Builder
+public class PostDetailResponse {
+    private PostResponse post;
+    private List<PostImageResponse> images;
+    private List<CommentResponse> comments;
+    private PostLikeResponse like;
+}
@@ -6,14 +6,17 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
     private Long id;
     private String title;
     private String content;
     private String author;
     private Integer viewCount;
+    private Integer uniqueViewCount; // 고유 조회자 수 (HyperLogLog 추정치)
     private Boolean hasImages;
     private Integer commentCount;
+    private Integer likeCount;
+    private Integer dislikeCount;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.project.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class PostSearchResponse {
+    private List<PostSummaryResponse> posts; // BM25 점수 순
+    private long totalHits;
+    private int page;
+    private int size;
+}
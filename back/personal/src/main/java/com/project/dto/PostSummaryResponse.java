@@ -0,0 +1,30 @@
+package com.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약 응답 (본문 content 제외).
+ * PostRepository의 JPQL 생성자 표현식에서 필드 순서대로 생성된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResponse {
+    private Long id;
+    private String title;
+    private String author;
+    private Integer viewCount;
+    private Integer commentCount;
+    private Integer likeCount;
+    private Integer dislikeCount;
+    private Boolean hasImages;
+    private String thumbnailFilename; // 첫 번째 이미지의 저장 파일명
+    private String excerpt; // 작성 시점에 계산된 본문 미리보기
+    private LocalDateTime createdAt;
+}
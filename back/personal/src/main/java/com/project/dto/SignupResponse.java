@@ -11,4 +11,5 @@ public class SignupResponse {
     private boolean success;
     private String message;
     private String token;
+    private String refreshToken;
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.project.dto;
+
+import lombok.Data;
+
+@Data
+public class TokenRefreshRequest {
+    private String refreshToken;
+}
@@ -4,8 +4,15 @@ import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 
+/**
+ * ddl-auto=none 이라 아래 인덱스는 운영 DB에 수동으로 적용해야 한다.
+ *
+ * CREATE INDEX idx_comments_post_parent_created ON comments (post_id, parent_id, created_at, id);
+ */
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = "idx_comments_post_parent_created", columnList = "post_id, parent_id, created_at, id")
+})
 @Data
 public class Comment {
     @Id
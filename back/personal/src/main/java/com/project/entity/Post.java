@@ -7,8 +7,30 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * ddl-auto=none 이라 아래 컬럼/인덱스는 운영 DB에 수동으로 적용해야 한다.
+ *
+ * CREATE INDEX idx_posts_created_at_id ON posts (created_at, id);
+ *
+ * ALTER TABLE posts ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+ * UPDATE posts p SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+ *
+ * ALTER TABLE posts ADD COLUMN like_count INT NOT NULL DEFAULT 0, ADD COLUMN dislike_count INT NOT NULL DEFAULT 0;
+ * UPDATE posts p SET
+ *     like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id AND l.like_type = 'like'),
+ *     dislike_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.id AND l.like_type = 'dislike');
+ * (댓글/좋아요 카운터는 기동 시 PostCounterReconciler도 한 번 보정한다)
+ *
+ * ALTER TABLE posts ADD COLUMN excerpt VARCHAR(200) NULL, ADD COLUMN thumbnail_filename VARCHAR(255) NULL;
+ * (기존 행의 excerpt/thumbnail_filename은 기동 시 PostPreviewBackfill이 채운다)
+ *
+ * ALTER TABLE posts ADD COLUMN unique_viewer_sketch BLOB NULL, ADD COLUMN unique_view_count BIGINT NULL;
+ * (스케치 크기는 2^unique-view.hll.precision 바이트 - BLOB 한도 때문에 precision은 15 이하)
+ */
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_created_at_id", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,7 +52,8 @@ public class Post {
     @Column(name = "author_nickname", nullable = false, length = 50)
     private String authorNickname;
     
-    @Column(name = "view_count")
+    // 조회수/댓글 수/좋아요 수는 원자적 UPDATE 문으로만 증감하므로 엔티티 저장 시 덮어쓰지 않음
+    @Column(name = "view_count", updatable = false)
     private Integer viewCount = 0;
     
     @Column(name = "has_images")
@@ -39,6 +62,24 @@ public class Post {
     @Column(name = "image_count")
     private Integer imageCount = 0;
     
+    @Column(name = "unique_view_count", updatable = false)
+    private Integer uniqueViewCount = 0; // 고유 조회자 추정치 (UniqueViewTracker가 갱신)
+    
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Integer commentCount = 0; // 댓글 수 (비정규화 카운터)
+    
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private Integer likeCount = 0; // 좋아요 수 (비정규화 카운터)
+    
+    @Column(name = "dislike_count", nullable = false, updatable = false)
+    private Integer dislikeCount = 0; // 비추천 수 (비정규화 카운터)
+    
+    @Column(name = "excerpt", length = 200)
+    private String excerpt; // 목록용 본문 미리보기 (작성/수정 시 계산)
+    
+    @Column(name = "thumbnail_filename")
+    private String thumbnailFilename; // 첫 번째 이미지의 저장 파일명
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -7,8 +7,19 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * ddl-auto=none 이라 아래 제약은 운영 DB에 수동으로 적용해야 한다.
+ * 기존 중복 반응이 있으면 제약 추가가 실패하므로 가장 먼저 남긴 행만 두고 지운 뒤 적용한다.
+ *
+ * DELETE l1 FROM post_likes l1
+ *     JOIN post_likes l2 ON l1.post_id = l2.post_id AND l1.user_id = l2.user_id AND l1.id > l2.id;
+ * ALTER TABLE post_likes ADD CONSTRAINT uk_post_likes_post_user UNIQUE (post_id, user_id);
+ * (posts.like_count/dislike_count는 기동 시 PostCounterReconciler가 다시 맞춘다)
+ */
 @Entity
-@Table(name = "post_likes")
+@Table(name = "post_likes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_post_likes_post_user", columnNames = {"post_id", "user_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,70 @@
+package com.project.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 - 원문은 저장하지 않고 SHA-256 해시만 보관한다.
+ * 같은 로그인에서 이어진 토큰들은 familyId를 공유하며, 한 번 사용(회전)된 토큰이 다시 오면 가족 전체를 폐기한다.
+ *
+ * ddl-auto=none 이라 아래 테이블은 운영 DB에 수동으로 만들어야 한다.
+ *
+ * CREATE TABLE refresh_tokens (
+ *     id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+ *     user_id BIGINT NOT NULL,
+ *     token_hash VARCHAR(64) NOT NULL,
+ *     family_id VARCHAR(36) NOT NULL,
+ *     expires_at DATETIME(6) NOT NULL,
+ *     used_at DATETIME(6) NULL,
+ *     grace_issued BOOLEAN NOT NULL DEFAULT FALSE,
+ *     revoked BOOLEAN NOT NULL DEFAULT FALSE,
+ *     created_at DATETIME(6) NULL,
+ *     UNIQUE KEY uk_refresh_tokens_token_hash (token_hash),
+ *     KEY idx_refresh_tokens_family_id (family_id)
+ * );
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "uk_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+    @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id")
+})
+@Data
+@NoArgsConstructor
+public class RefreshToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+    
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "used_at")
+    private LocalDateTime usedAt; // 회전되어 새 토큰으로 교체된 시각
+    
+    @Column(name = "grace_issued", nullable = false)
+    private Boolean graceIssued = false; // 회전 후 동시 갱신으로 한 번 더 발급했는지 (토큰당 한 번만 허용)
+    
+    @Column(name = "revoked", nullable = false)
+    private Boolean revoked = false;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -6,8 +6,24 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
+/**
+ * ddl-auto=none 이라 아래 컬럼/인덱스는 운영 DB에 수동으로 적용해야 한다.
+ *
+ * CREATE INDEX idx_users_suspension_end_time ON users (suspension_end_time);
+ * CREATE INDEX idx_users_role ON users (role);
+ * CREATE INDEX idx_users_created_at ON users (created_at);
+ *
+ * ALTER TABLE users ADD COLUMN security_version BIGINT NOT NULL DEFAULT 0;
+ * CREATE INDEX idx_users_security_version ON users (security_version);
+ * (기존 정지 사용자의 토큰은 기동 시 SecurityVersionRegistry가 무효화한다)
+ */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_suspension_end_time", columnList = "suspension_end_time"),
+    @Index(name = "idx_users_role", columnList = "role"),
+    @Index(name = "idx_users_created_at", columnList = "created_at"),
+    @Index(name = "idx_users_security_version", columnList = "security_version")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,6 +57,10 @@ public class User {
     @Column(name = "suspension_reason")
     private String suspensionReason;
     
+    // 최소 유효 보안 버전 - SecurityVersionRegistry만 조건부 UPDATE로 올린다 (엔티티 저장으로 덮어쓰지 않음)
+    @Column(name = "security_version", nullable = false, updatable = false)
+    private Long securityVersion = 0L;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -50,5 +70,8 @@ public class User {
         if (isSuspended == null) {
             isSuspended = false;
         }
+        if (securityVersion == null) {
+            securityVersion = 0L;
+        }
     }
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.project.repository;
 
 import com.project.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +19,72 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByParentIdOrderByCreatedAtAsc(Long parentId);
     List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
     int countByPostId(Long postId);
+    
+    // 키셋 페이지네이션 - 루트 댓글 / 특정 댓글의 직계 대댓글 (idx_comments_post_parent_created 인덱스 사용)
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootPage(@Param("postId") Long postId, Pageable pageable);
+    
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootPageAfter(@Param("postId") Long postId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+    
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId = :parentId " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findReplyPage(@Param("postId") Long postId,
+                                @Param("parentId") Long parentId,
+                                Pageable pageable);
+    
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId = :parentId " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findReplyPageAfter(@Param("postId") Long postId,
+                                     @Param("parentId") Long parentId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+    
+    // 부모 댓글별 앞쪽 대댓글 미리보기 (부모마다 최대 :limit개, 쿼리 한 번)
+    @Query(value = "SELECT id, post_id, user_id, author_nickname, content, parent_id, created_at, updated_at FROM (" +
+                   "SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+                   "FROM comments c WHERE c.post_id = :postId AND c.parent_id IN (:parentIds)) ranked " +
+                   "WHERE ranked.rn <= :limit ORDER BY parent_id, created_at, id",
+           nativeQuery = true)
+    List<Comment> findReplyPreviews(@Param("postId") Long postId,
+                                    @Param("parentIds") Collection<Long> parentIds,
+                                    @Param("limit") int limit);
+    
+    // 부모 댓글별 직계 대댓글 수
+    @Query("SELECT c.parentId, COUNT(c) FROM Comment c WHERE c.postId = :postId AND c.parentId IN :parentIds GROUP BY c.parentId")
+    List<Object[]> countRepliesGroupByParentId(@Param("postId") Long postId,
+                                               @Param("parentIds") Collection<Long> parentIds);
+    
+    // 게시글의 댓글 일괄 삭제 (DELETE 한 번)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.postId = :postId")
+    int bulkDeleteByPostId(@Param("postId") Long postId);
+    
+    // 댓글 하나의 모든 하위 대댓글 id (자신 제외) - 재귀 CTE로 id만 조회, 단계마다 idx_comments_post_parent_created 사용
+    @Query(value = "WITH RECURSIVE tree (id) AS (" +
+                   "SELECT c.id FROM comments c WHERE c.post_id = :postId AND c.parent_id = :rootId " +
+                   "UNION ALL " +
+                   "SELECT c.id FROM comments c JOIN tree t ON c.post_id = :postId AND c.parent_id = t.id) " +
+                   "SELECT id FROM tree",
+           nativeQuery = true)
+    List<Long> findDescendantIds(@Param("postId") Long postId, @Param("rootId") Long rootId);
+    
+    // 댓글 묶음 일괄 삭제 (하위 대댓글 포함 삭제용)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int bulkDeleteByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 게시글별 실제 댓글 수 집계 (카운터 보정용)
+    @Query("SELECT c.postId, COUNT(c) FROM Comment c WHERE c.postId IN :postIds GROUP BY c.postId")
+    List<Object[]> countGroupByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
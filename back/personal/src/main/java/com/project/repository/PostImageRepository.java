@@ -2,7 +2,11 @@ package com.project.repository;
 
 import com.project.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -12,4 +16,14 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     List<PostImage> findByPostIdOrderByImageOrder(Long postId);
     
     void deleteByPostId(Long postId);
+    
+    // 삭제 후 정리할 파일 경로만 조회
+    @Query("SELECT i.filePath FROM PostImage i WHERE i.postId = :postId")
+    List<String> findFilePathsByPostId(@Param("postId") Long postId);
+    
+    // 게시글의 이미지 정보 일괄 삭제 (DELETE 한 번)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PostImage i WHERE i.postId = :postId")
+    int bulkDeleteByPostId(@Param("postId") Long postId);
 }
\ No newline at end of file
@@ -2,8 +2,13 @@ package com.project.repository;
 
 import com.project.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +22,17 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     void deleteByPostIdAndUserId(Long postId, Long userId);
     
     List<PostLike> findByPostId(Long postId);
+    
+    // 게시글의 좋아요/비추천 일괄 삭제 (DELETE 한 번)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PostLike l WHERE l.postId = :postId")
+    int bulkDeleteByPostId(@Param("postId") Long postId);
+    
+    // 여러 게시글에 대한 한 사용자의 좋아요 상태 (IN 조회 한 번)
+    List<PostLike> findByUserIdAndPostIdIn(Long userId, Collection<Long> postIds);
+    
+    // 게시글/유형별 실제 좋아요 수 집계 (카운터 보정용)
+    @Query("SELECT l.postId, l.likeType, COUNT(l) FROM PostLike l WHERE l.postId IN :postIds GROUP BY l.postId, l.likeType")
+    List<Object[]> countGroupByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
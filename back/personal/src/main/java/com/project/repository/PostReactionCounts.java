@@ -0,0 +1,9 @@
+package com.project.repository;
+
+/**
+ * 게시글 좋아요/비추천 카운터만 조회하는 프로젝션
+ */
+public interface PostReactionCounts {
+    Integer getLikeCount();
+    Integer getDislikeCount();
+}
@@ -1,15 +1,111 @@
 package com.project.repository;
 
+import com.project.dto.PostSummaryResponse;
 import com.project.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     
+    String SUMMARY_SELECT = "SELECT new com.project.dto.PostSummaryResponse(" +
+            "p.id, p.title, p.authorNickname, p.viewCount, p.commentCount, p.likeCount, p.dislikeCount, " +
+            "p.hasImages, p.thumbnailFilename, p.excerpt, p.createdAt) " +
+            "FROM Post p ";
+    
     List<Post> findAllByOrderByCreatedAtDesc();
     
     List<Post> findByAuthorIdOrderByCreatedAtDesc(Long authorId);
+    
+    // 조건부 GET 버전 시드용 - 마지막 수정 시각 (수정 이력이 없으면 작성 시각)
+    @Query("SELECT COALESCE(p.updatedAt, p.createdAt) FROM Post p WHERE p.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") Long id);
+    
+    @Query("SELECT p.authorId FROM Post p WHERE p.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
+    
+    // 검색 결과 페이지 조회용 (정렬은 호출 측에서 검색 순위대로 맞춤)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 검색 색인 재구축용 id 순 청크 조회
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+    
+    // 미리보기 백필용 - excerpt가 비어 있는 (컬럼 추가 이전) 게시글 id 순 청크 조회
+    List<Post> findByIdGreaterThanAndExcerptIsNullOrderByIdAsc(Long afterId, Pageable pageable);
+    
+    // 미리보기 백필 - 그 사이 작성자가 수정해 excerpt가 채워졌으면 덮어쓰지 않음
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.excerpt = :excerpt, p.thumbnailFilename = :thumbnailFilename " +
+           "WHERE p.id = :id AND p.excerpt IS NULL")
+    int backfillPreview(@Param("id") Long id,
+                        @Param("excerpt") String excerpt,
+                        @Param("thumbnailFilename") String thumbnailFilename);
+    
+    // 키셋 페이지네이션 - 첫 페이지 (idx_posts_created_at_id 인덱스 사용)
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryResponse> findFeedFirstPage(Pageable pageable);
+    
+    // 키셋 페이지네이션 - 커서 이후 페이지
+    @Query(SUMMARY_SELECT +
+           "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryResponse> findFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id,
+                             Pageable pageable);
+    
+    // 댓글 수 카운터 원자적 증감 (음수 방지)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = " +
+           "CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END " +
+           "WHERE p.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    Optional<PostReactionCounts> findReactionCountsById(Long id);
+    
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
+    
+    // 여러 게시글의 (id, likeCount, dislikeCount) 조회
+    @Query("SELECT p.id, p.likeCount, p.dislikeCount FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findReactionCountsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 보정 작업용 - 읽은 값이 그대로일 때만 덮어씀 (그 사이 토글이 반영됐으면 0건, 다음 보정에서 재시도)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = :likeCount, p.dislikeCount = :dislikeCount " +
+           "WHERE p.id = :id AND p.likeCount = :storedLikes AND p.dislikeCount = :storedDislikes")
+    int updateReactionCounts(@Param("id") Long id,
+                             @Param("storedLikes") int storedLikes,
+                             @Param("storedDislikes") int storedDislikes,
+                             @Param("likeCount") int likeCount,
+                             @Param("dislikeCount") int dislikeCount);
+    
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    // 보정 작업용 - 읽은 값(stored)이 그대로일 때만 덮어씀 (그 사이 증감이 있으면 0건, 다음 보정에서 재시도)
+    @Query("UPDATE Post p SET p.commentCount = :count WHERE p.id = :id AND p.commentCount = :stored")
+    int updateCommentCount(@Param("id") Long id, @Param("stored") int stored, @Param("count") int count);
+    
+    // 카운터 보정 작업용 - id 순으로 (id, commentCount) 청크 조회
+    @Query("SELECT p.id, p.commentCount FROM Post p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Object[]> findCommentCountChunk(@Param("afterId") Long afterId, Pageable pageable);
+    
+    // 카운터 보정 작업용 - id 순으로 (id, likeCount, dislikeCount) 청크 조회
+    @Query("SELECT p.id, p.likeCount, p.dislikeCount FROM Post p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Object[]> findReactionCountChunk(@Param("afterId") Long afterId, Pageable pageable);
 }
\ No newline at end of file
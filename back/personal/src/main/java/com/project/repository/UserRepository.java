@@ -2,8 +2,14 @@ package com.project.repository;
 
 import com.project.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +22,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     
     boolean existsByNickname(String nickname);
+    
+    @Query("SELECT u.id FROM User u WHERE u.isSuspended = true")
+    List<Long> findSuspendedUserIds();
+    
+    // 토큰 만료 시간 안에 올라간 보안 버전 (id, securityVersion) - 기동 시 SecurityVersionRegistry 시드용
+    @Query("SELECT u.id, u.securityVersion FROM User u WHERE u.securityVersion > :since")
+    List<Object[]> findSecurityVersionsAfter(@Param("since") long since);
+    
+    // 보안 버전은 올리기만 함 (동시에 더 큰 값이 들어갔으면 0건)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE User u SET u.securityVersion = :version WHERE u.id = :id AND u.securityVersion < :version")
+    int raiseSecurityVersion(@Param("id") Long id, @Param("version") long version);
+    
+    // 정지 기간이 지난 사용자 (suspension_end_time 인덱스 범위 조회)
+    @Query("SELECT u.username FROM User u WHERE u.suspensionEndTime <= :now AND u.isSuspended = true")
+    List<String> findExpiredSuspensionUsernames(@Param("now") LocalDateTime now);
+    
+    // 정지 기간이 지난 사용자 일괄 정지 해제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE User u SET u.isSuspended = false, u.suspensionEndTime = null, u.suspensionReason = null " +
+           "WHERE u.suspensionEndTime <= :now AND u.isSuspended = true")
+    int liftExpiredSuspensions(@Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -1,27 +1,23 @@
 package com.project.service;
 
+import com.project.dto.AdminUserPageResponse;
 import com.project.dto.AdminUserResponse;
+import com.project.dto.CacheStatsResponse;
+import com.project.dto.PasswordHashStatsResponse;
 import com.project.entity.Post;
-import com.project.entity.PostImage;
-import com.project.entity.PostLike;
 import com.project.entity.User;
 import com.project.entity.Comment;
 import com.project.repository.PostRepository;
-import com.project.repository.PostImageRepository;
-import com.project.repository.PostLikeRepository;
 import com.project.repository.UserRepository;
 import com.project.repository.CommentRepository;
-import com.project.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,17 +25,25 @@ public class AdminService {
     
     private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final PostImageRepository postImageRepository;
-    private final PostLikeRepository postLikeRepository;
     private final CommentRepository commentRepository;
-    private final JwtUtil jwtUtil;
+    private final PostCache postCache;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingTracker trendingTracker;
+    private final UniqueViewTracker uniqueViewTracker;
+    private final PostCascadeDeleter postCascadeDeleter;
+    private final UserSecurityCache userSecurityCache;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final PasswordHasher passwordHasher;
+    private final AdminUserQuery adminUserQuery;
     
-    public String getUsernameFromToken(String token) {
-        return jwtUtil.getUsernameFromToken(token);
-    }
+    @Value("${admin.users.page-size.default:50}")
+    private int defaultUserPageSize;
+    
+    @Value("${admin.users.page-size.max:200}")
+    private int maxUserPageSize;
     
     private void checkAdminPermission(String username) {
-        User user = userRepository.findByUsername(username)
+        UserSecurityCache.State user = userSecurityCache.get(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         if (!"ADMIN".equals(user.getRole()) && !"OPERATOR".equals(user.getRole())) {
@@ -48,7 +52,7 @@ public class AdminService {
     }
     
     private void checkOperatorPermission(String username) {
-        User user = userRepository.findByUsername(username)
+        UserSecurityCache.State user = userSecurityCache.get(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         if (!"OPERATOR".equals(user.getRole())) {
@@ -57,7 +61,7 @@ public class AdminService {
     }
     
     private boolean canManageUser(String adminUsername, User targetUser) {
-        User admin = userRepository.findByUsername(adminUsername)
+        UserSecurityCache.State admin = userSecurityCache.get(adminUsername)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         // 운영자는 모든 사용자 관리 가능
@@ -74,13 +78,38 @@ public class AdminService {
         return "ADMIN".equals(admin.getRole());
     }
     
-    public List<AdminUserResponse> getAllUsers(String adminUsername) {
+    /**
+     * 관리자 사용자 목록 (커서 페이지네이션 + 필터, 전체 개수는 첫 페이지에서만 계산)
+     */
+    public AdminUserPageResponse getUsers(String adminUsername, AdminUserQuery.Filter filter, String cursor, Integer size) {
         checkAdminPermission(adminUsername);
         
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(this::convertToAdminUserResponse)
-                .collect(Collectors.toList());
+        int pageSize = (size == null || size <= 0) ? defaultUserPageSize : Math.min(size, maxUserPageSize);
+        Long beforeId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                beforeId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("유효하지 않은 커서입니다.");
+            }
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<AdminUserResponse> users = adminUserQuery.findPage(filter, beforeId, pageSize + 1);
+        boolean hasNext = users.size() > pageSize;
+        if (hasNext) {
+            users = users.subList(0, pageSize);
+        }
+        
+        AdminUserQuery.Count count = beforeId == null ? adminUserQuery.count(filter) : null;
+        return AdminUserPageResponse.builder()
+                .users(users)
+                .nextCursor(hasNext ? String.valueOf(users.get(users.size() - 1).getId()) : null)
+                .hasNext(hasNext)
+                .size(users.size())
+                .totalCount(count != null ? count.getValue() : null)
+                .totalCountExact(count != null ? count.isExact() : null)
+                .build();
     }
     
     public void suspendUser(Long userId, Integer suspensionMinutes, String reason, String adminUsername) {
@@ -105,6 +134,8 @@ public class AdminService {
         user.setSuspensionReason(reason);
         
         userRepository.save(user);
+        userSecurityCache.invalidate(user);
+        securityVersionRegistry.bump(user.getId());
     }
     
     public void updateUserRole(Long userId, String role, String adminUsername) {
@@ -122,13 +153,16 @@ public class AdminService {
         }
         
         // 관리자는 운영자 역할을 부여할 수 없음
-        User admin = userRepository.findByUsername(adminUsername).get();
+        UserSecurityCache.State admin = userSecurityCache.get(adminUsername)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         if ("ADMIN".equals(admin.getRole()) && "OPERATOR".equals(role)) {
             throw new RuntimeException("관리자는 운영자 역할을 부여할 수 없습니다.");
         }
         
         user.setRole(role);
         userRepository.save(user);
+        userSecurityCache.invalidate(user);
+        securityVersionRegistry.bump(user.getId());
     }
     
     public void deleteUser(Long userId, String adminUsername) {
@@ -137,8 +171,9 @@ public class AdminService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        User admin = userRepository.findByUsername(adminUsername).get();
-        if (user.getId().equals(admin.getId())) {
+        UserSecurityCache.State admin = userSecurityCache.get(adminUsername)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        if (user.getId().equals(admin.getUserId())) {
             throw new RuntimeException("자기 자신은 삭제할 수 없습니다.");
         }
         
@@ -147,32 +182,50 @@ public class AdminService {
         }
         
         userRepository.delete(user);
+        userSecurityCache.invalidate(user);
+        securityVersionRegistry.bump(user.getId());
     }
     
     public void deletePostAsAdmin(Long postId, String adminUsername) {
         checkAdminPermission(adminUsername);
         
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
         
-        // 관련 이미지 파일 및 DB 데이터 삭제
-        deletePostImages(postId);
+        // 댓글/좋아요/이미지 정보와 게시글을 한 트랜잭션에서 일괄 삭제 (이미지 파일은 커밋 후 정리)
+        postCascadeDeleter.deletePost(postId);
+        System.out.println("관리자 " + adminUsername + " 권한으로 게시글 " + postId + " 삭제");
         
-        // 관련 댓글들 삭제
-        List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
-        commentRepository.deleteAll(comments);
+        postSearchIndex.remove(postId);
+        trendingTracker.remove(postId);
+        uniqueViewTracker.remove(postId);
+        postCache.onPostDeleted(postId);
+    }
+    
+    public List<CacheStatsResponse> getCacheStats(String adminUsername) {
+        checkAdminPermission(adminUsername);
         
-        // 관련 좋아요/비추천 삭제
-        List<PostLike> likes = postLikeRepository.findByPostId(postId);
-        postLikeRepository.deleteAll(likes);
+        List<CacheStatsResponse> stats = new ArrayList<>(postCache.stats());
+        stats.add(userSecurityCache.stats());
+        return stats;
+    }
+    
+    public PasswordHashStatsResponse getPasswordHashStats(String adminUsername) {
+        checkAdminPermission(adminUsername);
         
-        // 게시글 삭제
-        postRepository.delete(post);
+        return passwordHasher.stats();
+    }
+    
+    public int rebuildSearchIndex(String adminUsername) {
+        checkAdminPermission(adminUsername);
+        
+        return postSearchIndex.rebuild();
     }
     
     public boolean isAdmin(String username) {
         try {
-            User user = userRepository.findByUsername(username)
+            UserSecurityCache.State user = userSecurityCache.get(username)
                     .orElse(null);
             return user != null && ("ADMIN".equals(user.getRole()) || "OPERATOR".equals(user.getRole()));
         } catch (Exception e) {
@@ -182,7 +235,7 @@ public class AdminService {
     
     public String getUserRole(String username) {
         try {
-            User user = userRepository.findByUsername(username)
+            UserSecurityCache.State user = userSecurityCache.get(username)
                     .orElse(null);
             return user != null ? user.getRole() : "USER";
         } catch (Exception e) {
@@ -215,6 +268,8 @@ public class AdminService {
         author.setSuspensionReason(reason);
         
         userRepository.save(author);
+        userSecurityCache.invalidate(author);
+        securityVersionRegistry.bump(author.getId());
     }
     
     public void suspendCommentAuthor(Long commentId, Integer suspensionMinutes, String reason, String adminUsername) {
@@ -242,19 +297,20 @@ public class AdminService {
         author.setSuspensionReason(reason);
         
         userRepository.save(author);
+        userSecurityCache.invalidate(author);
+        securityVersionRegistry.bump(author.getId());
     }
     
+    @Transactional
     public void deleteCommentAsAdmin(Long commentId, String adminUsername) {
         checkAdminPermission(adminUsername);
         
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
         
-        // 대댓글들도 함께 삭제
-        List<Comment> replies = commentRepository.findByParentIdOrderByCreatedAtAsc(commentId);
-        commentRepository.deleteAll(replies);
-        
-        commentRepository.delete(comment);
+        // 하위 대댓글들도 깊이와 관계없이 함께 일괄 삭제 + 댓글 수 카운터 감소
+        postCascadeDeleter.deleteCommentTree(comment);
+        postCache.onPostChanged(comment.getPostId());
     }
     
     public void unsuspendUser(Long userId, String adminUsername) {
@@ -272,43 +328,6 @@ public class AdminService {
         user.setSuspensionReason(null);
         
         userRepository.save(user);
-    }
-    
-    private void deletePostImages(Long postId) {
-        // DB에서 해당 게시글의 이미지 정보 조회
-        List<PostImage> images = postImageRepository.findByPostIdOrderByImageOrder(postId);
-        
-        // 실제 파일 삭제
-        for (PostImage image : images) {
-            try {
-                Path filePath = Paths.get(image.getFilePath());
-                if (Files.exists(filePath)) {
-                    Files.delete(filePath);
-                    System.out.println("관리자 권한으로 이미지 파일 삭제 완료: " + image.getStoredFilename());
-                } else {
-                    System.out.println("이미지 파일이 존재하지 않음: " + image.getStoredFilename());
-                }
-            } catch (IOException e) {
-                System.err.println("이미지 파일 삭제 실패: " + image.getStoredFilename() + " - " + e.getMessage());
-                // 파일 삭제 실패해도 DB 데이터는 삭제하도록 계속 진행
-            }
-        }
-        
-        // DB에서 이미지 정보 삭제
-        postImageRepository.deleteAll(images);
-        System.out.println("관리자 권한으로 게시글 " + postId + "의 이미지 " + images.size() + "개 삭제 완료");
-    }
-    
-    private AdminUserResponse convertToAdminUserResponse(User user) {
-        return AdminUserResponse.builder()
-                .id(user.getId())
-                .username(user.getUsername())
-                .nickname(user.getNickname())
-                .role(user.getRole())
-                .isSuspended(user.getIsSuspended())
-                .suspensionEndTime(user.getSuspensionEndTime())
-                .suspensionReason(user.getSuspensionReason())
-                .createdAt(user.getCreatedAt())
-                .build();
+        userSecurityCache.invalidate(user);
     }
 }
\ No newline at end of file
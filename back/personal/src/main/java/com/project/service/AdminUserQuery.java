@@ -0,0 +1,160 @@
+package com.project.service;
+
+import com.project.dto.AdminUserResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 사용자 목록 조회 (키셋 페이지네이션 + 필터).
+ * 값이 있는 조건만 WHERE 절에 넣어 옵티마이저가 해당 인덱스를 쓰도록 하고,
+ * 아이디/닉네임 검색은 접두사 LIKE로 두 컬럼의 유니크 인덱스를 범위 조회한다.
+ * 전체 개수는 count-limit 까지만 세고, 필터가 없으면 테이블 통계의 추정 행 수를 쓴다.
+ */
+@Component
+public class AdminUserQuery {
+    
+    private static final String COLUMNS =
+            "id, username, nickname, role, is_suspended, suspension_end_time, suspension_reason, created_at";
+    private static final String ESTIMATE_SQL =
+            "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'users'";
+    
+    private static final RowMapper<AdminUserResponse> ROW_MAPPER = (rs, rowNum) -> AdminUserResponse.builder()
+            .id(rs.getLong("id"))
+            .username(rs.getString("username"))
+            .nickname(rs.getString("nickname"))
+            .role(rs.getString("role"))
+            .isSuspended(rs.getBoolean("is_suspended"))
+            .suspensionEndTime(toLocalDateTime(rs.getTimestamp("suspension_end_time")))
+            .suspensionReason(rs.getString("suspension_reason"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .build();
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final long countLimit;
+    
+    @Getter
+    public static class Filter {
+        private final String role;
+        private final Boolean suspended;
+        private final LocalDateTime createdFrom; // 포함
+        private final LocalDateTime createdTo;   // 미포함
+        private final String query;              // 아이디/닉네임 접두사
+        
+        @Builder
+        public Filter(String role, Boolean suspended, LocalDateTime createdFrom, LocalDateTime createdTo, String query) {
+            this.role = role == null || role.isBlank() ? null : role.trim();
+            this.suspended = suspended;
+            this.createdFrom = createdFrom;
+            this.createdTo = createdTo;
+            this.query = query == null || query.isBlank() ? null : query.trim();
+        }
+        
+        private boolean isEmpty() {
+            return role == null && suspended == null && createdFrom == null && createdTo == null && query == null;
+        }
+    }
+    
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Count {
+        private final long value;
+        private final boolean exact;
+    }
+    
+    public AdminUserQuery(JdbcTemplate jdbcTemplate,
+                          @Value("${admin.users.count-limit:10000}") long countLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.countLimit = countLimit;
+    }
+    
+    /**
+     * id 내림차순(최근 가입 순)으로 beforeId 보다 작은 사용자를 limit 개 조회
+     */
+    public List<AdminUserResponse> findPage(Filter filter, Long beforeId, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM users");
+        appendWhere(sql, args, filter, beforeId);
+        sql.append(" ORDER BY id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+    
+    public Count count(Filter filter) {
+        if (filter.isEmpty()) {
+            Long estimate = estimateTableRows();
+            if (estimate != null && estimate > countLimit) {
+                return new Count(estimate, false);
+            }
+        }
+        
+        // count-limit + 1 행까지만 세어 큰 결과에서도 비용을 제한
+        List<Object> args = new ArrayList<>();
+        StringBuilder inner = new StringBuilder("SELECT 1 FROM users");
+        appendWhere(inner, args, filter, null);
+        inner.append(" LIMIT ?");
+        args.add(countLimit + 1);
+        Long counted = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + inner + ") t", Long.class, args.toArray());
+        long value = counted != null ? counted : 0L;
+        return value > countLimit ? new Count(countLimit, false) : new Count(value, true);
+    }
+    
+    private Long estimateTableRows() {
+        try {
+            return jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+        } catch (Exception e) {
+            return null; // 통계를 읽을 수 없으면 제한된 정확 개수로 대체
+        }
+    }
+    
+    private static void appendWhere(StringBuilder sql, List<Object> args, Filter filter, Long beforeId) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.role != null) {
+            conditions.add("role = ?");
+            args.add(filter.role);
+        }
+        if (filter.suspended != null) {
+            conditions.add("is_suspended = ?");
+            args.add(filter.suspended);
+        }
+        if (filter.createdFrom != null) {
+            conditions.add("created_at >= ?");
+            args.add(Timestamp.valueOf(filter.createdFrom));
+        }
+        if (filter.createdTo != null) {
+            conditions.add("created_at < ?");
+            args.add(Timestamp.valueOf(filter.createdTo));
+        }
+        if (filter.query != null) {
+            String prefix = escapeLike(filter.query) + "%";
+            conditions.add("(username LIKE ? OR nickname LIKE ?)");
+            args.add(prefix);
+            args.add(prefix);
+        }
+        if (beforeId != null) {
+            conditions.add("id < ?");
+            args.add(beforeId);
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,139 @@
+package com.project.service;
+
+import com.project.dto.PasswordHashStatsResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 해시/검증을 전용 스레드 풀(passwordHashExecutor)에서 실행한다.
+ * 풀 크기만큼만 동시에 해시하므로 로그인 폭주가 게시글 조회 요청의 CPU를 빼앗지 않고,
+ * 큐가 가득 차거나 password.hash.timeout-ms 안에 끝나지 않으면 "BUSY:" 예외로 바로 거절한다.
+ */
+@Component
+public class PasswordHasher {
+    
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+    
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final int strength;
+    private final long timeoutMs;
+    private final int queueCapacity;
+    
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong rehashCount = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                          @Value("${password.bcrypt.strength:10}") int strength,
+                          @Value("${password.hash.timeout-ms:5000}") long timeoutMs,
+                          @Value("${password.hash.executor.queue-capacity:50}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.strength = strength;
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+    }
+    
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    /**
+     * 저장된 해시의 cost가 현재 설정(password.bcrypt.strength)과 다르면 재해시 대상
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+    
+    public void recordRehash() {
+        rehashCount.incrementAndGet();
+    }
+    
+    public PasswordHashStatsResponse stats() {
+        long completed = completedCount.get();
+        return PasswordHashStatsResponse.builder()
+                .bcryptStrength(strength)
+                .poolSize(executor.getMaxPoolSize())
+                .activeCount(executor.getActiveCount())
+                .queueDepth(executor.getThreadPoolExecutor().getQueue().size())
+                .queueCapacity(queueCapacity)
+                .completedCount(completed)
+                .rejectedCount(rejectedCount.get())
+                .timeoutCount(timeoutCount.get())
+                .rehashCount(rehashCount.get())
+                .avgHashMillis(completed == 0 ? 0.0 : totalHashNanos.get() / 1_000_000.0 / completed)
+                .maxHashMillis(maxHashNanos.get() / 1_000_000.0)
+                .avgWaitMillis(completed == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / completed)
+                .build();
+    }
+    
+    private <T> T run(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    record(startedAt - submittedAt, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCount.incrementAndGet();
+            throw new RuntimeException("BUSY:로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCount.incrementAndGet();
+            throw new RuntimeException("BUSY:로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("BUSY:요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+    
+    private void record(long waitNanos, long hashNanos) {
+        completedCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        totalHashNanos.addAndGet(hashNanos);
+        maxHashNanos.accumulateAndGet(hashNanos, Math::max);
+    }
+}
@@ -0,0 +1,195 @@
+package com.project.service;
+
+import com.project.dto.CacheStatsResponse;
+import com.project.dto.PostPageResponse;
+import com.project.dto.PostResponse;
+import com.project.dto.PostSummaryResponse;
+import com.project.util.WeightedLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 인기 피드 페이지(앞쪽 N개)와 게시글 상세(PostResponse)용 인프로세스 캐시.
+ * 쓰기 경로에서 변경된 게시글 단위로 무효화하며, 트랜잭션 안에서는 커밋 이후에 무효화한다.
+ */
+@Component
+public class PostCache {
+    
+    private final PostVersionTracker versionTracker;
+    private final int maxFeedPages;
+    private final WeightedLruCache<String, PostPageResponse> feedCache;
+    private final WeightedLruCache<Long, PostResponse> postCache;
+    
+    // 캐시 가능한 커서 -> 페이지 번호 (첫 페이지는 커서 없음)
+    private final Map<String, Integer> cursorPageIndex = new ConcurrentHashMap<>();
+    
+    // 무효화 세대 - DB 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않음
+    private final AtomicLong feedGeneration = new AtomicLong();
+    private final AtomicLong postGeneration = new AtomicLong();
+    
+    public PostCache(PostVersionTracker versionTracker,
+                     @Value("${post.cache.feed.max-pages:5}") int maxFeedPages,
+                     @Value("${post.cache.feed.max-bytes:8388608}") long feedMaxBytes,
+                     @Value("${post.cache.feed.ttl-ms:5000}") long feedTtlMillis,
+                     @Value("${post.cache.post.max-bytes:33554432}") long postMaxBytes,
+                     @Value("${post.cache.post.ttl-ms:60000}") long postTtlMillis) {
+        this.versionTracker = versionTracker;
+        this.maxFeedPages = maxFeedPages;
+        this.feedCache = new WeightedLruCache<>("feedPages", feedMaxBytes, feedTtlMillis, PostCache::weighPage);
+        this.postCache = new WeightedLruCache<>("posts", postMaxBytes, postTtlMillis, PostCache::weighPost);
+    }
+    
+    // ===== 피드 페이지 =====
+    
+    public long feedGeneration() {
+        return feedGeneration.get();
+    }
+    
+    public PostPageResponse getFeedPage(String cursor, int size) {
+        if (pageIndexOf(cursor, size) < 0) {
+            return null;
+        }
+        return feedCache.get(feedKey(cursor, size));
+    }
+    
+    public void putFeedPage(String cursor, int size, PostPageResponse page, long generation) {
+        int pageIndex = pageIndexOf(cursor, size);
+        if (pageIndex < 0 || generation != feedGeneration.get()) {
+            return;
+        }
+        feedCache.put(feedKey(cursor, size), page);
+        if (page.getNextCursor() != null && pageIndex + 1 < maxFeedPages) {
+            cursorPageIndex.put(feedKey(page.getNextCursor(), size), pageIndex + 1);
+        }
+    }
+    
+    // ===== 게시글 상세 =====
+    
+    public long postGeneration() {
+        return postGeneration.get();
+    }
+    
+    public PostResponse getPost(Long postId) {
+        return postCache.get(postId);
+    }
+    
+    public void putPost(PostResponse post, long generation) {
+        if (generation != postGeneration.get()) {
+            return;
+        }
+        postCache.put(post.getId(), post);
+    }
+    
+    /**
+     * 캐시에 있는 게시글 상세만 갱신한다. (조회수처럼 무효화보다 갱신이 싼 변경용)
+     */
+    public void updatePost(Long postId, UnaryOperator<PostResponse> updater) {
+        postCache.computeIfPresent(postId, updater);
+        versionTracker.bumpPost(postId);
+    }
+    
+    // ===== 무효화 =====
+    
+    /**
+     * 새 게시글 작성 - 피드 순서가 밀리므로 피드 페이지 전체 무효화
+     */
+    public void onPostCreated() {
+        afterCommit(() -> {
+            clearFeed();
+            versionTracker.bumpFeed();
+        });
+    }
+    
+    /**
+     * 게시글 내용/카운터 변경 - 해당 게시글 상세와 그 게시글을 포함한 피드 페이지만 무효화
+     */
+    public void onPostChanged(Long postId) {
+        afterCommit(() -> {
+            postGeneration.incrementAndGet();
+            postCache.invalidate(postId);
+            feedGeneration.incrementAndGet();
+            feedCache.invalidateIf(page -> containsPost(page, postId));
+            versionTracker.bumpPost(postId);
+            versionTracker.bumpFeed();
+        });
+    }
+    
+    /**
+     * 게시글 삭제 - 해당 게시글 상세 무효화 + 피드 순서가 바뀌므로 피드 페이지 전체 무효화
+     */
+    public void onPostDeleted(Long postId) {
+        afterCommit(() -> {
+            postGeneration.incrementAndGet();
+            postCache.invalidate(postId);
+            clearFeed();
+            versionTracker.bumpPost(postId);
+            versionTracker.bumpFeed();
+        });
+    }
+    
+    public List<CacheStatsResponse> stats() {
+        return Arrays.asList(feedCache.stats(), postCache.stats());
+    }
+    
+    private void clearFeed() {
+        feedGeneration.incrementAndGet();
+        feedCache.clear();
+        cursorPageIndex.clear();
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private int pageIndexOf(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return maxFeedPages > 0 ? 0 : -1;
+        }
+        Integer pageIndex = cursorPageIndex.get(feedKey(cursor, size));
+        return pageIndex != null ? pageIndex : -1;
+    }
+    
+    private static String feedKey(String cursor, int size) {
+        return size + ":" + (cursor == null ? "" : cursor);
+    }
+    
+    private static boolean containsPost(PostPageResponse page, Long postId) {
+        return page.getPosts().stream().anyMatch(p -> postId.equals(p.getId()));
+    }
+    
+    // 문자열은 UTF-16 기준 2바이트, 객체 헤더/필드는 대략 상수로 추정
+    private static long weighPage(PostPageResponse page) {
+        long weight = 64;
+        for (PostSummaryResponse p : page.getPosts()) {
+            weight += 128 + 2L * (length(p.getTitle()) + length(p.getAuthor())
+                    + length(p.getExcerpt()) + length(p.getThumbnailFilename()));
+        }
+        return weight;
+    }
+    
+    private static long weighPost(PostResponse post) {
+        return 128 + 2L * (length(post.getTitle()) + length(post.getContent()) + length(post.getAuthor()));
+    }
+    
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.service;
+
+import com.project.entity.Comment;
+import com.project.repository.CommentRepository;
+import com.project.repository.PostImageRepository;
+import com.project.repository.PostLikeRepository;
+import com.project.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 게시글/댓글 연쇄 삭제.
+ * 엔티티를 하나씩 불러 지우지 않고 테이블마다 DELETE ... WHERE 한 번씩, 한 트랜잭션으로 처리한다.
+ * 이미지 파일은 롤백될 수 있는 트랜잭션 안에서 지우지 않고, 커밋 후 백그라운드에서 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCascadeDeleter {
+    
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostImageRepository postImageRepository;
+    @Qualifier("fileCleanupExecutor")
+    private final Executor fileCleanupExecutor;
+    
+    /**
+     * 게시글과 댓글/좋아요/이미지 정보를 일괄 삭제하고, 커밋되면 이미지 파일을 지운다.
+     */
+    @Transactional
+    public void deletePost(Long postId) {
+        List<String> filePaths = postImageRepository.findFilePathsByPostId(postId);
+        
+        int comments = commentRepository.bulkDeleteByPostId(postId);
+        int likes = postLikeRepository.bulkDeleteByPostId(postId);
+        int images = postImageRepository.bulkDeleteByPostId(postId);
+        postRepository.bulkDeleteById(postId);
+        System.out.println("게시글 " + postId + " 삭제: 댓글 " + comments + "개, 좋아요 " + likes + "개, 이미지 " + images + "개");
+        
+        if (!filePaths.isEmpty()) {
+            afterCommit(() -> fileCleanupExecutor.execute(() -> deleteFiles(postId, filePaths)));
+        }
+    }
+    
+    /**
+     * 댓글과 모든 하위 대댓글을 일괄 삭제하고 게시글 댓글 수를 줄인다.
+     * @return 삭제된 댓글 수
+     */
+    @Transactional
+    public int deleteCommentTree(Comment comment) {
+        List<Long> ids = new ArrayList<>();
+        ids.add(comment.getId());
+        ids.addAll(commentRepository.findDescendantIds(comment.getPostId(), comment.getId()));
+        
+        int deleted = commentRepository.bulkDeleteByIdIn(ids);
+        postRepository.adjustCommentCount(comment.getPostId(), -deleted);
+        return deleted;
+    }
+    
+    private void deleteFiles(Long postId, List<String> filePaths) {
+        int deleted = 0;
+        for (String filePath : filePaths) {
+            try {
+                Path path = Paths.get(filePath);
+                if (Files.deleteIfExists(path)) {
+                    deleted++;
+                } else {
+                    System.out.println("이미지 파일이 존재하지 않음: " + path.getFileName());
+                }
+            } catch (IOException e) {
+                System.err.println("이미지 파일 삭제 실패: " + filePath + " - " + e.getMessage());
+            }
+        }
+        System.out.println("게시글 " + postId + "의 이미지 파일 " + deleted + "개 삭제 완료");
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.service;
+
+import com.project.repository.CommentRepository;
+import com.project.repository.PostLikeRepository;
+import com.project.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 비정규화 카운터 보정 작업.
+ * posts 테이블을 id 순으로 청크 단위로 훑으면서 실제 댓글/좋아요/비추천 수와 다른 카운터를 바로잡는다.
+ * 덮어쓰기는 읽은 값이 그대로일 때만 하므로(compare-and-set) 동시에 일어난 증감을 지우지 않는다.
+ * 카운터 컬럼 추가 직후의 백필을 겸해 기동 시 한 번 실행한다. (post.counter.reconcile.on-startup)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCounterReconciler {
+    
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostCache postCache;
+    
+    @Value("${post.counter.reconcile.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${post.counter.reconcile.on-startup:true}")
+    private boolean reconcileOnStartup;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void startupReconcile() {
+        if (reconcileOnStartup) {
+            scheduledReconcile();
+        }
+    }
+    
+    @Scheduled(initialDelayString = "${post.counter.reconcile.interval-ms:3600000}",
+               fixedDelayString = "${post.counter.reconcile.interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            int fixed = reconcileCommentCounts();
+            if (fixed > 0) {
+                System.out.println("댓글 수 카운터 보정 완료: " + fixed + "건");
+            }
+        } catch (Exception e) {
+            System.err.println("댓글 수 카운터 보정 실패: " + e.getMessage());
+        }
+        
+        try {
+            int fixed = reconcileReactionCounts();
+            if (fixed > 0) {
+                System.out.println("좋아요 수 카운터 보정 완료: " + fixed + "건");
+            }
+        } catch (Exception e) {
+            System.err.println("좋아요 수 카운터 보정 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 전체 게시글의 댓글 수 카운터를 보정하고, 수정된 게시글 수를 반환한다.
+     */
+    public int reconcileCommentCounts() {
+        int fixed = 0;
+        Long afterId = 0L;
+        
+        while (true) {
+            List<Object[]> chunk = postRepository.findCommentCountChunk(afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            
+            List<Long> postIds = chunk.stream()
+                    .map(row -> (Long) row[0])
+                    .collect(Collectors.toList());
+            
+            Map<Long, Integer> actualCounts = new HashMap<>();
+            for (Object[] row : commentRepository.countGroupByPostIdIn(postIds)) {
+                actualCounts.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+            
+            for (Object[] row : chunk) {
+                Long postId = (Long) row[0];
+                int stored = row[1] != null ? ((Number) row[1]).intValue() : 0;
+                int actual = actualCounts.getOrDefault(postId, 0);
+                if (stored != actual && postRepository.updateCommentCount(postId, stored, actual) > 0) {
+                    postCache.onPostChanged(postId);
+                    fixed++;
+                }
+            }
+            
+            afterId = postIds.get(postIds.size() - 1);
+        }
+        
+        return fixed;
+    }
+    
+    /**
+     * 전체 게시글의 좋아요/비추천 카운터를 보정하고, 수정된 게시글 수를 반환한다.
+     */
+    public int reconcileReactionCounts() {
+        int fixed = 0;
+        Long afterId = 0L;
+        
+        while (true) {
+            List<Object[]> chunk = postRepository.findReactionCountChunk(afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            
+            List<Long> postIds = chunk.stream()
+                    .map(row -> (Long) row[0])
+                    .collect(Collectors.toList());
+            
+            Map<Long, int[]> actualCounts = new HashMap<>();
+            for (Object[] row : postLikeRepository.countGroupByPostIdIn(postIds)) {
+                int[] counts = actualCounts.computeIfAbsent((Long) row[0], id -> new int[2]);
+                int count = ((Number) row[2]).intValue();
+                if ("like".equals(row[1])) {
+                    counts[0] = count;
+                } else if ("dislike".equals(row[1])) {
+                    counts[1] = count;
+                }
+            }
+            
+            for (Object[] row : chunk) {
+                Long postId = (Long) row[0];
+                int storedLikes = row[1] != null ? ((Number) row[1]).intValue() : 0;
+                int storedDislikes = row[2] != null ? ((Number) row[2]).intValue() : 0;
+                int[] actual = actualCounts.getOrDefault(postId, new int[2]);
+                if ((storedLikes != actual[0] || storedDislikes != actual[1])
+                        && postRepository.updateReactionCounts(postId, storedLikes, storedDislikes, actual[0], actual[1]) > 0) {
+                    postCache.onPostChanged(postId);
+                    fixed++;
+                }
+            }
+            
+            afterId = postIds.get(postIds.size() - 1);
+        }
+        
+        return fixed;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.project.service;
+
+import com.project.entity.Post;
+import com.project.entity.PostImage;
+import com.project.repository.PostImageRepository;
+import com.project.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * excerpt/thumbnail_filename 컬럼 추가 이전에 작성된 게시글의 목록 미리보기 백필.
+ * 새 글과 수정된 글은 PostService가 채우므로 excerpt가 null인 행만 대상이며,
+ * 모두 채워진 뒤에는 첫 청크 조회 한 번으로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPreviewBackfill {
+    
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostCache postCache;
+    
+    @Value("${post.preview.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+    
+    @Value("${post.counter.reconcile.chunk-size:500}")
+    private int chunkSize;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void startupBackfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            int filled = backfill();
+            if (filled > 0) {
+                System.out.println("게시글 목록 미리보기 백필 완료: " + filled + "건");
+            }
+        } catch (Exception e) {
+            System.err.println("게시글 목록 미리보기 백필 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * excerpt가 없는 게시글의 미리보기와 썸네일을 채우고, 채운 게시글 수를 반환한다.
+     */
+    public int backfill() {
+        int filled = 0;
+        Long afterId = 0L;
+        
+        while (true) {
+            List<Post> chunk = postRepository.findByIdGreaterThanAndExcerptIsNullOrderByIdAsc(
+                    afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            
+            for (Post post : chunk) {
+                String thumbnailFilename = post.getThumbnailFilename();
+                if (thumbnailFilename == null && Boolean.TRUE.equals(post.getHasImages())) {
+                    List<PostImage> images = postImageRepository.findByPostIdOrderByImageOrder(post.getId());
+                    thumbnailFilename = images.isEmpty() ? null : images.get(0).getStoredFilename();
+                }
+                
+                String excerpt = PostService.buildExcerpt(post.getContent());
+                if (postRepository.backfillPreview(post.getId(), excerpt != null ? excerpt : "", thumbnailFilename) > 0) {
+                    postCache.onPostChanged(post.getId());
+                    filled++;
+                }
+            }
+            
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        
+        return filled;
+    }
+}
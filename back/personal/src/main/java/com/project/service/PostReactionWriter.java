@@ -0,0 +1,84 @@
+package com.project.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 좋아요/비추천 토글을 조건부 단일 문장들로 처리한다.
+ * 조회 후 insert/update/delete 하던 방식은 동시 클릭 시 중복 행이나 카운터 어긋남이 생겼다.
+ * - 게시글 행을 FOR UPDATE로 잠가 같은 게시글의 토글을 직렬화 (카운터 갱신이 어차피 커밋까지 이 행을 잠근다)
+ * - 각 문장의 영향 행 수로만 카운터 증감을 결정하므로 post_likes 행과 카운터가 항상 함께 움직인다
+ * - (post_id, user_id) 유니크 제약이 최종 방어선
+ * 호출자의 트랜잭션이 있으면 거기에 합류한다. (그룹 커밋 시 여러 토글이 한 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostReactionWriter {
+    
+    private static final String LOCK_POST_SQL = "SELECT id FROM posts WHERE id = ? FOR UPDATE";
+    private static final String DELETE_SQL =
+            "DELETE FROM post_likes WHERE post_id = ? AND user_id = ? AND like_type = ?";
+    private static final String SWITCH_SQL =
+            "UPDATE post_likes SET like_type = ? WHERE post_id = ? AND user_id = ? AND like_type <> ?";
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO post_likes (post_id, user_id, like_type, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+    private static final String CURRENT_TYPE_SQL =
+            "SELECT like_type FROM post_likes WHERE post_id = ? AND user_id = ?";
+    private static final String ADJUST_COUNTS_SQL = "UPDATE posts SET " +
+            "like_count = CASE WHEN like_count + ? < 0 THEN 0 ELSE like_count + ? END, " +
+            "dislike_count = CASE WHEN dislike_count + ? < 0 THEN 0 ELSE dislike_count + ? END " +
+            "WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final String userStatus; // 토글 후 상태 ("like", "dislike", null)
+        private final int likeDelta;
+        private final int dislikeDelta;
+    }
+    
+    /**
+     * likeType("like" 또는 "dislike") 토글
+     * - 같은 유형이 있으면 삭제 (취소)
+     * - 반대 유형이 있으면 변경
+     * - 없으면 추가
+     */
+    @Transactional
+    public Result toggle(Long postId, Long userId, String likeType) {
+        List<Long> locked = jdbcTemplate.queryForList(LOCK_POST_SQL, Long.class, postId);
+        if (locked.isEmpty()) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
+        
+        boolean like = "like".equals(likeType);
+        
+        if (jdbcTemplate.update(DELETE_SQL, postId, userId, likeType) > 0) {
+            return applyCounts(postId, null, like ? -1 : 0, like ? 0 : -1);
+        }
+        
+        if (jdbcTemplate.update(SWITCH_SQL, likeType, postId, userId, likeType) > 0) {
+            return applyCounts(postId, likeType, like ? 1 : -1, like ? -1 : 1);
+        }
+        
+        if (jdbcTemplate.update(INSERT_SQL, postId, userId, likeType) > 0) {
+            return applyCounts(postId, likeType, like ? 1 : 0, like ? 0 : 1);
+        }
+        
+        // 잠금 없이 들어온 다른 쓰기와 유니크 제약에서 부딪힌 경우 - 행이 바뀌지 않았으므로 카운터도 그대로
+        List<String> current = jdbcTemplate.queryForList(CURRENT_TYPE_SQL, String.class, postId, userId);
+        return new Result(current.isEmpty() ? null : current.get(0), 0, 0);
+    }
+    
+    private Result applyCounts(Long postId, String userStatus, int likeDelta, int dislikeDelta) {
+        jdbcTemplate.update(ADJUST_COUNTS_SQL, likeDelta, likeDelta, dislikeDelta, dislikeDelta, postId);
+        return new Result(userStatus, likeDelta, dislikeDelta);
+    }
+}
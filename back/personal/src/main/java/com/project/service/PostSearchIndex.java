@@ -0,0 +1,249 @@
+package com.project.service;
+
+import com.project.entity.Post;
+import com.project.repository.PostRepository;
+import com.project.util.BigramTokenizer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 제목/본문 인메모리 역색인 (BM25 랭킹).
+ * 게시글 작성/수정/삭제 시 PostService에서 증분 갱신하고, 필요하면 DB에서 전체 재구축한다.
+ */
+@Component
+public class PostSearchIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2; // 제목 토큰은 본문보다 가중치를 줌
+    
+    private final PostRepository postRepository;
+    private final int rebuildChunkSize;
+    private final boolean rebuildOnStartup;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    
+    // 재구축 중 들어온 증분 변경 (재구축 완료 후 새 색인에 다시 적용)
+    private List<Mutation> pendingDuringRebuild;
+    
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        private final List<Long> postIds;
+        private final long totalHits;
+    }
+    
+    @AllArgsConstructor
+    private static class Mutation {
+        private final Long postId;
+        private final Map<String, Integer> termFrequencies; // null이면 삭제
+    }
+    
+    private static class IndexData {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Map<String, Integer>> docTerms = new HashMap<>();
+        private final Map<Long, Integer> docLengths = new HashMap<>();
+        private long totalLength = 0;
+        
+        private void put(Long postId, Map<String, Integer> termFrequencies) {
+            remove(postId);
+            int length = 0;
+            for (Map.Entry<String, Integer> e : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(postId, e.getValue());
+                length += e.getValue();
+            }
+            docTerms.put(postId, termFrequencies);
+            docLengths.put(postId, length);
+            totalLength += length;
+        }
+        
+        private void remove(Long postId) {
+            Map<String, Integer> terms = docTerms.remove(postId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms.keySet()) {
+                Map<Long, Integer> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(postId);
+                    if (docs.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= docLengths.remove(postId);
+        }
+        
+        private void apply(Mutation mutation) {
+            if (mutation.termFrequencies == null) {
+                remove(mutation.postId);
+            } else {
+                put(mutation.postId, mutation.termFrequencies);
+            }
+        }
+    }
+    
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${search.rebuild.chunk-size:500}") int rebuildChunkSize,
+                           @Value("${search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.postRepository = postRepository;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+    
+    public void index(Post post) {
+        Map<String, Integer> termFrequencies = termFrequencies(post.getTitle(), post.getContent());
+        mutate(new Mutation(post.getId(), termFrequencies));
+    }
+    
+    public void remove(Long postId) {
+        mutate(new Mutation(postId, null));
+    }
+    
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(BigramTokenizer.tokenize(query)));
+        if (terms.isEmpty()) {
+            return new SearchResult(new ArrayList<>(), 0);
+        }
+        
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = data.docTerms.size();
+            if (docCount == 0) {
+                return new SearchResult(new ArrayList<>(), 0);
+            }
+            double avgLength = (double) data.totalLength / docCount;
+            
+            for (String term : terms) {
+                Map<Long, Integer> docs = data.postings.get(term);
+                if (docs == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                for (Map.Entry<Long, Integer> e : docs.entrySet()) {
+                    int tf = e.getValue();
+                    int length = data.docLengths.get(e.getKey());
+                    double norm = tf + K1 * (1 - B + B * length / avgLength);
+                    scores.merge(e.getKey(), idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted((a, b) -> {
+                    int byScore = Double.compare(b.getValue(), a.getValue());
+                    return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey());
+                })
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        
+        return new SearchResult(ranked, scores.size());
+    }
+    
+    /**
+     * DB의 전체 게시글로 색인을 다시 만든다. 재구축 중에도 기존 색인으로 검색이 가능하며,
+     * 그 사이에 들어온 변경은 새 색인에 다시 적용한 뒤 교체한다. 색인된 게시글 수를 반환한다.
+     */
+    public synchronized int rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        IndexData fresh = new IndexData();
+        try {
+            Long afterId = 0L;
+            while (true) {
+                List<Post> chunk = postRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, rebuildChunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                for (Post post : chunk) {
+                    fresh.put(post.getId(), termFrequencies(post.getTitle(), post.getContent()));
+                }
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            for (Mutation mutation : pendingDuringRebuild) {
+                fresh.apply(mutation);
+            }
+            pendingDuringRebuild = null;
+            data = fresh;
+            return fresh.docTerms.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                int count = rebuild();
+                System.out.println("검색 색인 구축 완료: 게시글 " + count + "개");
+            } catch (Exception e) {
+                System.err.println("검색 색인 구축 실패: " + e.getMessage());
+            }
+        }, "search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    private void mutate(Mutation mutation) {
+        lock.writeLock().lock();
+        try {
+            data.apply(mutation);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(mutation);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private static Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : BigramTokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : BigramTokenizer.tokenize(content)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        return termFrequencies;
+    }
+}
@@ -1,8 +1,13 @@
 package com.project.service;
 
 import com.project.dto.PostResponse;
+import com.project.dto.PostDetailResponse;
+import com.project.dto.PostPageResponse;
+import com.project.dto.PostSummaryResponse;
+import com.project.dto.PostSearchResponse;
 import com.project.dto.PostImageResponse;
 import com.project.dto.PostLikeResponse;
+import com.project.dto.CommentPageResponse;
 import com.project.dto.CommentResponse;
 import com.project.entity.Post;
 import com.project.entity.PostImage;
@@ -12,11 +17,17 @@ import com.project.entity.Comment;
 import com.project.repository.PostRepository;
 import com.project.repository.PostImageRepository;
 import com.project.repository.PostLikeRepository;
+import com.project.repository.PostReactionCounts;
 import com.project.repository.UserRepository;
 import com.project.repository.CommentRepository;
-import com.project.util.JwtUtil;
+import com.project.util.CommentTreeUtil;
+import com.project.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
@@ -25,9 +36,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,30 +61,157 @@ public class PostService {
     private final PostLikeRepository postLikeRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
-    private final JwtUtil jwtUtil;
     private final UserService userService;
+    private final PostCache postCache;
+    private final PostVersionTracker versionTracker;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingTracker trendingTracker;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UniqueViewTracker uniqueViewTracker;
+    private final PostReactionWriter postReactionWriter;
+    private final ReactionIngestQueue reactionIngestQueue;
+    private final PostCascadeDeleter postCascadeDeleter;
+    @Qualifier("postDetailExecutor")
+    private final Executor postDetailExecutor;
     
-    public String getUsernameFromToken(String token) {
-        return jwtUtil.getUsernameFromToken(token);
+    private static final int EXCERPT_LENGTH = 100;
+    
+    @Value("${feed.page-size.default:20}")
+    private int defaultPageSize;
+    
+    @Value("${feed.page-size.max:100}")
+    private int maxPageSize;
+    
+    @Value("${comments.page-size.default:20}")
+    private int defaultCommentPageSize;
+    
+    @Value("${comments.page-size.max:100}")
+    private int maxCommentPageSize;
+    
+    @Value("${comments.reply-preview:3}")
+    private int replyPreviewSize;
+    
+    @Value("${like-status.max-batch:300}")
+    private int maxLikeStatusBatch;
+    
+    /**
+     * 이전 목록 API 호환용 - 전체를 읽지 않고 키셋 피드의 첫 페이지만 반환 (크기는 feed.page-size.max로 제한)
+     */
+    public List<PostSummaryResponse> getAllPosts(Integer size) {
+        return getPostFeed(null, size).getPosts();
+    }
+    
+    public PostPageResponse getPostFeed(String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+        
+        PostPageResponse cached = postCache.getFeedPage(cursor, pageSize);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = postCache.feedGeneration();
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PostSummaryResponse> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFeedFirstPage(limit);
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            posts = postRepository.findFeedAfter(decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+        
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+        
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryResponse last = posts.get(posts.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+        
+        PostPageResponse page = PostPageResponse.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+        postCache.putFeedPage(cursor, pageSize, page, generation);
+        return page;
     }
     
-    public List<PostResponse> getAllPosts() {
-        List<Post> posts = postRepository.findAllByOrderByCreatedAtDesc();
-        return posts.stream()
-                .map(this::convertToResponse)
+    public PostSearchResponse searchPosts(String query, Integer page, Integer size) {
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        
+        PostSearchIndex.SearchResult result = postSearchIndex.search(query, pageNumber * pageSize, pageSize);
+        
+        // 검색 순위 순서대로 요약 정보 정렬 (색인과 DB 사이에 삭제된 게시글은 제외)
+        Map<Long, PostSummaryResponse> summaries = result.getPostIds().isEmpty()
+                ? Map.of()
+                : postRepository.findSummariesByIdIn(result.getPostIds()).stream()
+                        .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+        List<PostSummaryResponse> posts = result.getPostIds().stream()
+                .map(summaries::get)
+                .filter(summary -> summary != null)
+                .collect(Collectors.toList());
+        
+        return PostSearchResponse.builder()
+                .posts(posts)
+                .totalHits(result.getTotalHits())
+                .page(pageNumber)
+                .size(pageSize)
+                .build();
+    }
+    
+    /**
+     * 인기 피드 - 시간 감쇠 점수 상위 게시글 (점수 순)
+     */
+    public List<PostSummaryResponse> getTrendingPosts(Integer size) {
+        int limit = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+        List<Long> postIds = trendingTracker.top(limit);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, PostSummaryResponse> summaries = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryResponse::getId, Function.identity()));
+        return postIds.stream()
+                .map(summaries::get)
+                .filter(summary -> summary != null)
                 .collect(Collectors.toList());
     }
     
-    public PostResponse createPost(String title, String content, List<MultipartFile> images, String username) {
+    public PostVersionTracker.Version getFeedVersion() {
+        return versionTracker.feed();
+    }
+    
+    /**
+     * 메모리에 알려진 게시글 버전 (모르면 null)
+     */
+    public PostVersionTracker.Version peekPostVersion(Long id) {
+        return versionTracker.peekPost(id);
+    }
+    
+    public PostVersionTracker.Version getPostVersion(Long id) {
+        return versionTracker.currentPost(id, postId -> postRepository.findLastModifiedById(postId)
+                .map(time -> time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(null));
+    }
+    
+    public PostResponse createPost(String title, String content, List<MultipartFile> images, Long userId, String username) {
         // 사용자 정지 상태 확인
         userService.checkUserSuspensionStatus(username);
         
-        User user = userRepository.findByUsername(username)
+        // 작성자 닉네임이 필요하므로 PK로 조회
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         Post post = new Post();
         post.setTitle(title);
         post.setContent(content);
+        post.setExcerpt(buildExcerpt(content));
         post.setAuthorId(user.getId());
         post.setAuthorNickname(user.getNickname());
         post.setViewCount(0);
@@ -75,33 +224,97 @@ public class PostService {
         
         // 이미지 파일 저장 로직
         if (images != null && !images.isEmpty()) {
-            savePostImages(savedPost.getId(), images);
+            String thumbnailFilename = savePostImages(savedPost.getId(), images);
+            if (thumbnailFilename != null) {
+                savedPost.setThumbnailFilename(thumbnailFilename);
+                savedPost = postRepository.save(savedPost);
+            }
         }
         
+        postSearchIndex.index(savedPost);
+        postCache.onPostCreated();
         return convertToResponse(savedPost);
     }
     
     public PostResponse getPost(Long id) {
+        PostResponse cached = postCache.getPost(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = postCache.postGeneration();
+        
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
-        return convertToResponse(post);
+        PostResponse response = convertToResponse(post);
+        postCache.putPost(response, generation);
+        return response;
     }
     
-    public void increaseViewCount(Long id, String username) {
-        Post post = postRepository.findById(id)
+    public void increaseViewCount(Long id, Long viewerId, String clientIp) {
+        recordView(id, viewerId, clientIp);
+    }
+    
+    /**
+     * 게시글 상세 화면 묶음 조회.
+     * 이미지/댓글/좋아요 상태는 postDetailExecutor에서 병렬로 가져오며
+     * 조회수 기록과 게시글 본문 조회는 호출 스레드에서 처리한다.
+     */
+    public PostDetailResponse openPost(Long id, Long viewerId, String clientIp) {
+        CompletableFuture<List<PostImageResponse>> images =
+                CompletableFuture.supplyAsync(() -> getPostImages(id), postDetailExecutor);
+        CompletableFuture<List<CommentResponse>> comments =
+                CompletableFuture.supplyAsync(() -> getComments(id), postDetailExecutor);
+        CompletableFuture<PostLikeResponse> like =
+                CompletableFuture.supplyAsync(() -> buildLikeStatus(id, viewerId), postDetailExecutor);
+        
+        recordView(id, viewerId, clientIp);
+        PostResponse post = getPost(id);
+        
+        return PostDetailResponse.builder()
+                .post(post)
+                .images(join(images))
+                .comments(join(comments))
+                .like(join(like))
+                .build();
+    }
+    
+    /**
+     * 조회수 증가 - 게시글 행을 직접 갱신하지 않고 ViewCountBuffer에 모아 주기적으로 반영한다.
+     * 같은 조회자(사용자 id 또는 IP 해시)의 창 내 반복 조회는 세지 않는다.
+     */
+    private void recordView(Long id, Long viewerId, String clientIp) {
+        Long authorId = postRepository.findAuthorIdById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
         // 작성자 본인이 조회하는 경우 조회수 증가하지 않음
-        if (username != null) {
-            User user = userRepository.findByUsername(username).orElse(null);
-            if (user != null && post.getAuthorId().equals(user.getId())) {
-                return; // 본인 게시글은 조회수 증가하지 않음
-            }
+        if (viewerId != null && authorId.equals(viewerId)) {
+            return; // 본인 게시글은 조회수 증가하지 않음
+        }
+        
+        // 새로고침 등 반복 조회는 조회수에 반영하지 않음
+        if (!uniqueViewTracker.recordView(id, UniqueViewTracker.viewerKey(viewerId, clientIp))) {
+            return;
         }
         
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+        viewCountBuffer.increment(id);
+        int uniqueViewCount = (int) uniqueViewTracker.cachedEstimate(id);
+        postCache.updatePost(id, cached -> cached.toBuilder()
+                .viewCount(cached.getViewCount() + 1)
+                .uniqueViewCount(Math.max(uniqueViewCount, cached.getUniqueViewCount()))
+                .build());
+        trendingTracker.onView(id);
+    }
+    
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
     
     public List<PostImageResponse> getPostImages(Long postId) {
@@ -119,13 +332,17 @@ public class PostService {
                 .collect(Collectors.toList());
     }
     
-    private void savePostImages(Long postId, List<MultipartFile> images) {
+    /**
+     * 이미지 파일과 메타데이터를 저장하고, 첫 번째로 저장된 이미지의 파일명(썸네일)을 반환한다.
+     */
+    private String savePostImages(Long postId, List<MultipartFile> images) {
         String uploadDir = System.getProperty("user.dir") + "/uploads/images/";
         File uploadDirFile = new File(uploadDir);
         if (!uploadDirFile.exists()) {
             uploadDirFile.mkdirs();
         }
         
+        String thumbnailFilename = null;
         for (int i = 0; i < images.size(); i++) {
             MultipartFile image = images.get(i);
             try {
@@ -185,6 +402,10 @@ public class PostService {
                 
                 postImageRepository.save(postImage);
                 
+                if (thumbnailFilename == null) {
+                    thumbnailFilename = storedFilename;
+                }
+                
             } catch (IOException e) {
                 System.err.println("이미지 저장 실패: " + image.getOriginalFilename() + " - " + e.getMessage());
                 throw new RuntimeException("이미지 저장 중 오류가 발생했습니다: " + e.getMessage());
@@ -194,25 +415,25 @@ public class PostService {
                 throw new RuntimeException("이미지 처리 중 오류가 발생했습니다: " + e.getMessage());
             }
         }
+        
+        return thumbnailFilename;
     }
     
-    public PostResponse updatePost(Long id, String title, String content, List<MultipartFile> images, String username) {
+    public PostResponse updatePost(Long id, String title, String content, List<MultipartFile> images, Long userId, String username) {
         // 사용자 정지 상태 확인
         userService.checkUserSuspensionStatus(username);
         
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
         // 작성자 확인
-        if (!post.getAuthorId().equals(user.getId())) {
+        if (!post.getAuthorId().equals(userId)) {
             throw new RuntimeException("게시글을 수정할 권한이 없습니다.");
         }
         
         post.setTitle(title);
         post.setContent(content);
+        post.setExcerpt(buildExcerpt(content));
         post.setUpdatedAt(LocalDateTime.now());
         
         if (images != null) {
@@ -224,166 +445,246 @@ public class PostService {
         
         // TODO: 이미지 파일 업데이트 로직 구현
         
+        postSearchIndex.index(updatedPost);
+        postCache.onPostChanged(id);
         return convertToResponse(updatedPost);
     }
     
-    public void deletePost(Long id, String username) {
+    public void deletePost(Long id, Long userId, String username) {
         // 사용자 정지 상태 확인
         userService.checkUserSuspensionStatus(username);
         
-        Post post = postRepository.findById(id)
+        Long authorId = postRepository.findAuthorIdById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
         // 작성자 확인
-        if (!post.getAuthorId().equals(user.getId())) {
+        if (!authorId.equals(userId)) {
             throw new RuntimeException("게시글을 삭제할 권한이 없습니다.");
         }
         
-        // 관련 이미지 파일 및 DB 데이터 삭제
-        deletePostImages(id);
-        
-        // 관련 댓글들 삭제
-        List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(id);
-        commentRepository.deleteAll(comments);
-        
-        // 관련 좋아요/비추천 삭제
-        List<PostLike> likes = postLikeRepository.findByPostId(id);
-        postLikeRepository.deleteAll(likes);
+        // 댓글/좋아요/이미지 정보와 게시글을 한 트랜잭션에서 일괄 삭제 (이미지 파일은 커밋 후 정리)
+        postCascadeDeleter.deletePost(id);
         
-        // 게시글 삭제
-        postRepository.delete(post);
+        postSearchIndex.remove(id);
+        trendingTracker.remove(id);
+        uniqueViewTracker.remove(id);
+        postCache.onPostDeleted(id);
     }
     
-    public PostLikeResponse toggleLike(Long postId, String username) {
+    public PostLikeResponse toggleLike(Long postId, Long userId, String username) {
+        return toggleReaction(postId, userId, username, "like");
+    }
+    
+    public PostLikeResponse toggleDislike(Long postId, Long userId, String username) {
+        return toggleReaction(postId, userId, username, "dislike");
+    }
+    
+    private PostLikeResponse toggleReaction(Long postId, Long userId, String username, String likeType) {
         // 사용자 정지 상태 확인
         userService.checkUserSuspensionStatus(username);
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndUserId(postId, user.getId());
-        
-        String userStatus = null;
-        
-        if (existingLike.isPresent()) {
-            PostLike like = existingLike.get();
-            if ("like".equals(like.getLikeType())) {
-                // 이미 좋아요를 눌렀다면 취소
-                postLikeRepository.delete(like);
-                userStatus = null;
-            } else {
-                // 비추천을 좋아요로 변경
-                like.setLikeType("like");
-                postLikeRepository.save(like);
-                userStatus = "like";
+        if (reactionIngestQueue.isEnabled()) {
+            // 그룹 커밋 모드 - 큐에 넣고 예상 상태를 바로 응답
+            if (!postRepository.existsById(postId)) {
+                throw new RuntimeException("게시글을 찾을 수 없습니다.");
             }
-        } else {
-            // 새로운 좋아요 추가
-            PostLike newLike = new PostLike();
-            newLike.setPostId(postId);
-            newLike.setUserId(user.getId());
-            newLike.setLikeType("like");
-            postLikeRepository.save(newLike);
-            userStatus = "like";
+            String predicted = reactionIngestQueue.enqueue(postId, userId, likeType,
+                    () -> postLikeRepository.findByPostIdAndUserId(postId, userId)
+                            .map(PostLike::getLikeType)
+                            .orElse(null));
+            return toLikeResponse(postId, predicted);
         }
         
-        int likeCount = postLikeRepository.countByPostIdAndLikeType(postId, "like");
-        int dislikeCount = postLikeRepository.countByPostIdAndLikeType(postId, "dislike");
+        PostReactionWriter.Result result = postReactionWriter.toggle(postId, userId, likeType);
         
-        return PostLikeResponse.builder()
-                .likeCount(likeCount)
-                .dislikeCount(dislikeCount)
-                .userStatus(userStatus)
-                .build();
+        if (result.getLikeDelta() != 0 || result.getDislikeDelta() != 0) {
+            trendingTracker.onReaction(postId, result.getLikeDelta(), result.getDislikeDelta());
+            postCache.onPostChanged(postId);
+        }
+        return toLikeResponse(postId, result.getUserStatus());
     }
     
-    public PostLikeResponse toggleDislike(Long postId, String username) {
-        // 사용자 정지 상태 확인
-        userService.checkUserSuspensionStatus(username);
-        
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndUserId(postId, user.getId());
+    public PostLikeResponse getLikeStatus(Long postId, Long userId) {
+        return buildLikeStatus(postId, userId);
+    }
+    
+    /**
+     * 피드 렌더링용 일괄 좋아요 상태 - 카운터와 사용자 상태를 각각 IN 조회 한 번으로 가져온다.
+     * 존재하지 않는 게시글 id는 결과에서 빠진다.
+     */
+    public Map<Long, PostLikeResponse> getLikeStatuses(List<Long> postIds, Long userId) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.size() > maxLikeStatusBatch) {
+            throw new RuntimeException("한 번에 조회할 수 있는 게시글은 최대 " + maxLikeStatusBatch + "개입니다.");
+        }
         
-        String userStatus = null;
+        Map<Long, PostLikeResponse> result = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
         
-        if (existingLike.isPresent()) {
-            PostLike like = existingLike.get();
-            if ("dislike".equals(like.getLikeType())) {
-                // 이미 비추천을 눌렀다면 취소
-                postLikeRepository.delete(like);
-                userStatus = null;
-            } else {
-                // 좋아요를 비추천으로 변경
-                like.setLikeType("dislike");
-                postLikeRepository.save(like);
-                userStatus = "dislike";
+        Map<Long, String> userStatuses = new HashMap<>();
+        if (userId != null) {
+            for (PostLike like : postLikeRepository.findByUserIdAndPostIdIn(userId, ids)) {
+                userStatuses.put(like.getPostId(), like.getLikeType());
+            }
+            for (Long postId : ids) {
+                if (reactionIngestQueue.hasPending(postId, userId)) {
+                    userStatuses.put(postId, reactionIngestQueue.pendingStatus(postId, userId));
+                }
             }
-        } else {
-            // 새로운 비추천 추가
-            PostLike newLike = new PostLike();
-            newLike.setPostId(postId);
-            newLike.setUserId(user.getId());
-            newLike.setLikeType("dislike");
-            postLikeRepository.save(newLike);
-            userStatus = "dislike";
         }
         
-        int likeCount = postLikeRepository.countByPostIdAndLikeType(postId, "like");
-        int dislikeCount = postLikeRepository.countByPostIdAndLikeType(postId, "dislike");
+        Map<Long, PostLikeResponse> byId = new HashMap<>();
+        for (Object[] row : postRepository.findReactionCountsByIdIn(ids)) {
+            Long postId = (Long) row[0];
+            int[] pending = reactionIngestQueue.pendingDelta(postId);
+            byId.put(postId, PostLikeResponse.builder()
+                    .likeCount(Math.max(0, (row[1] != null ? ((Number) row[1]).intValue() : 0) + pending[0]))
+                    .dislikeCount(Math.max(0, (row[2] != null ? ((Number) row[2]).intValue() : 0) + pending[1]))
+                    .userStatus(userStatuses.get(postId))
+                    .build());
+        }
         
-        return PostLikeResponse.builder()
-                .likeCount(likeCount)
-                .dislikeCount(dislikeCount)
-                .userStatus(userStatus)
-                .build();
+        // 요청 순서 유지
+        for (Long postId : ids) {
+            if (byId.containsKey(postId)) {
+                result.put(postId, byId.get(postId));
+            }
+        }
+        return result;
     }
     
-    public PostLikeResponse getLikeStatus(Long postId, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndUserId(postId, user.getId());
-        
+    private PostLikeResponse buildLikeStatus(Long postId, Long userId) {
         String userStatus = null;
-        if (existingLike.isPresent()) {
-            userStatus = existingLike.get().getLikeType();
+        if (userId != null && reactionIngestQueue.hasPending(postId, userId)) {
+            userStatus = reactionIngestQueue.pendingStatus(postId, userId);
+        } else if (userId != null) {
+            Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndUserId(postId, userId);
+            if (existingLike.isPresent()) {
+                userStatus = existingLike.get().getLikeType();
+            }
         }
         
-        int likeCount = postLikeRepository.countByPostIdAndLikeType(postId, "like");
-        int dislikeCount = postLikeRepository.countByPostIdAndLikeType(postId, "dislike");
+        return toLikeResponse(postId, userStatus);
+    }
+    
+    /**
+     * 게시글 행의 비정규화 카운터로 좋아요 응답 생성 (PK 조회 한 번)
+     * 그룹 커밋 모드에서 아직 반영되지 않은 증감도 더한다.
+     */
+    private PostLikeResponse toLikeResponse(Long postId, String userStatus) {
+        PostReactionCounts counts = postRepository.findReactionCountsById(postId)
+                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+        int[] pending = reactionIngestQueue.pendingDelta(postId);
         
         return PostLikeResponse.builder()
-                .likeCount(likeCount)
-                .dislikeCount(dislikeCount)
+                .likeCount(Math.max(0, (counts.getLikeCount() != null ? counts.getLikeCount() : 0) + pending[0]))
+                .dislikeCount(Math.max(0, (counts.getDislikeCount() != null ? counts.getDislikeCount() : 0) + pending[1]))
                 .userStatus(userStatus)
                 .build();
     }
     
     public List<CommentResponse> getComments(Long postId) {
-        // 부모 댓글만 가져오기 (parentId가 null인 것들)
-        List<Comment> parentComments = commentRepository.findByPostIdAndParentIdIsNullOrderByCreatedAtAsc(postId);
+        // 게시글의 댓글 전체를 한 번에 가져와 메모리에서 트리로 조립 (깊이 제한 없음)
+        List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
+        return CommentTreeUtil.build(comments, this::convertToCommentResponse);
+    }
+    
+    /**
+     * 루트 댓글 커서 페이지 - 각 루트에 직계 대댓글 수와 앞쪽 대댓글 몇 개를 붙인다.
+     * 나머지 대댓글은 getReplyPage로 필요할 때 불러온다.
+     */
+    public CommentPageResponse getCommentPage(Long postId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? defaultCommentPageSize : Math.min(size, maxCommentPageSize);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> roots;
+        if (cursor == null || cursor.isBlank()) {
+            roots = commentRepository.findRootPage(postId, limit);
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            roots = commentRepository.findRootPageAfter(postId, decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+        return toCommentPage(postId, roots, pageSize, replyPreviewSize);
+    }
+    
+    /**
+     * 특정 댓글의 직계 대댓글 커서 페이지 (각 대댓글에 직계 대댓글 수 포함)
+     */
+    public CommentPageResponse getReplyPage(Long postId, Long parentId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? defaultCommentPageSize : Math.min(size, maxCommentPageSize);
+        
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> replies;
+        if (cursor == null || cursor.isBlank()) {
+            replies = commentRepository.findReplyPage(postId, parentId, limit);
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            replies = commentRepository.findReplyPageAfter(postId, parentId, decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+        return toCommentPage(postId, replies, pageSize, 0);
+    }
+    
+    private CommentPageResponse toCommentPage(Long postId, List<Comment> comments, int pageSize, int previewSize) {
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
         
-        return parentComments.stream()
-                .map(this::convertToCommentResponseWithReplies)
+        List<CommentResponse> responses = comments.stream()
+                .map(this::convertToCommentResponse)
                 .collect(Collectors.toList());
+        List<Long> ids = comments.stream().map(Comment::getId).collect(Collectors.toList());
+        
+        // 미리보기 대댓글 (부모별 최대 previewSize개, 쿼리 한 번)
+        List<CommentResponse> previews = new ArrayList<>();
+        if (previewSize > 0 && !ids.isEmpty()) {
+            Map<Long, List<CommentResponse>> previewsByParent = new HashMap<>();
+            for (Comment reply : commentRepository.findReplyPreviews(postId, ids, previewSize)) {
+                CommentResponse preview = convertToCommentResponse(reply);
+                previewsByParent.computeIfAbsent(reply.getParentId(), id -> new ArrayList<>()).add(preview);
+                previews.add(preview);
+            }
+            for (CommentResponse response : responses) {
+                response.setReplies(previewsByParent.getOrDefault(response.getId(), new ArrayList<>()));
+            }
+        }
+        
+        // 직계 대댓글 수 (페이지 댓글 + 미리보기 대댓글을 한 번에 집계)
+        List<Long> countIds = new ArrayList<>(ids);
+        previews.forEach(preview -> countIds.add(preview.getId()));
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        if (!countIds.isEmpty()) {
+            for (Object[] row : commentRepository.countRepliesGroupByParentId(postId, countIds)) {
+                replyCounts.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+        }
+        responses.forEach(response -> response.setReplyCount(replyCounts.getOrDefault(response.getId(), 0)));
+        previews.forEach(preview -> preview.setReplyCount(replyCounts.getOrDefault(preview.getId(), 0)));
+        
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+        
+        return CommentPageResponse.builder()
+                .comments(responses)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
     }
     
-    public CommentResponse createComment(Long postId, String content, Long parentId, String username) {
+    @Transactional
+    public CommentResponse createComment(Long postId, String content, Long parentId, Long userId, String username) {
         // 사용자 정지 상태 확인
         userService.checkUserSuspensionStatus(username);
         
-        User user = userRepository.findByUsername(username)
+        // 작성자 닉네임이 필요하므로 PK로 조회
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         Post post = postRepository.findById(postId)
@@ -404,21 +705,21 @@ public class PostService {
         comment.setCreatedAt(LocalDateTime.now());
         
         Comment savedComment = commentRepository.save(comment);
+        postRepository.adjustCommentCount(postId, 1);
+        postCache.onPostChanged(postId);
+        trendingTracker.onComment(postId);
         return convertToCommentResponse(savedComment);
     }
     
-    public CommentResponse updateComment(Long commentId, String content, String username) {
+    public CommentResponse updateComment(Long commentId, String content, Long userId, String username) {
         // 사용자 정지 상태 확인
         userService.checkUserSuspensionStatus(username);
         
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
         // 작성자 확인
-        if (!comment.getUserId().equals(user.getId())) {
+        if (!comment.getUserId().equals(userId)) {
             throw new RuntimeException("댓글을 수정할 권한이 없습니다.");
         }
         
@@ -429,26 +730,22 @@ public class PostService {
         return convertToCommentResponse(updatedComment);
     }
     
-    public void deleteComment(Long commentId, String username) {
+    @Transactional
+    public void deleteComment(Long commentId, Long userId, String username) {
         // 사용자 정지 상태 확인
         userService.checkUserSuspensionStatus(username);
         
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
         // 작성자 확인
-        if (!comment.getUserId().equals(user.getId())) {
+        if (!comment.getUserId().equals(userId)) {
             throw new RuntimeException("댓글을 삭제할 권한이 없습니다.");
         }
         
-        // 대댓글들도 함께 삭제
-        List<Comment> replies = commentRepository.findByParentIdOrderByCreatedAtAsc(commentId);
-        commentRepository.deleteAll(replies);
-        
-        commentRepository.delete(comment);
+        // 하위 대댓글들도 깊이와 관계없이 함께 일괄 삭제 + 댓글 수 카운터 감소
+        postCascadeDeleter.deleteCommentTree(comment);
+        postCache.onPostChanged(comment.getPostId());
     }
     
     private CommentResponse convertToCommentResponse(Comment comment) {
@@ -464,61 +761,40 @@ public class PostService {
                 .build();
     }
     
-    private CommentResponse convertToCommentResponseWithReplies(Comment comment) {
-        // 대댓글들 가져오기
-        List<Comment> replies = commentRepository.findByParentIdOrderByCreatedAtAsc(comment.getId());
-        List<CommentResponse> replyResponses = replies.stream()
-                .map(this::convertToCommentResponse)
-                .collect(Collectors.toList());
-        
-        return CommentResponse.builder()
-                .id(comment.getId())
-                .postId(comment.getPostId())
-                .userId(comment.getUserId())
-                .authorNickname(comment.getAuthorNickname())
-                .content(comment.getContent())
-                .parentId(comment.getParentId())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .replies(replyResponses)
-                .build();
-    }
-    
-    private void deletePostImages(Long postId) {
-        // DB에서 해당 게시글의 이미지 정보 조회
-        List<PostImage> images = postImageRepository.findByPostIdOrderByImageOrder(postId);
-        
-        // 실제 파일 삭제
-        for (PostImage image : images) {
-            try {
-                Path filePath = Paths.get(image.getFilePath());
-                if (Files.exists(filePath)) {
-                    Files.delete(filePath);
-                    System.out.println("이미지 파일 삭제 완료: " + image.getStoredFilename());
-                } else {
-                    System.out.println("이미지 파일이 존재하지 않음: " + image.getStoredFilename());
-                }
-            } catch (IOException e) {
-                System.err.println("이미지 파일 삭제 실패: " + image.getStoredFilename() + " - " + e.getMessage());
-                // 파일 삭제 실패해도 DB 데이터는 삭제하도록 계속 진행
-            }
+    /**
+     * 목록용 미리보기 생성 - 공백을 정리한 뒤 EXCERPT_LENGTH 글자(코드 포인트 기준)로 자른다.
+     */
+    static String buildExcerpt(String content) {
+        if (content == null) {
+            return null;
         }
-        
-        // DB에서 이미지 정보 삭제
-        postImageRepository.deleteAll(images);
-        System.out.println("게시글 " + postId + "의 이미지 " + images.size() + "개 삭제 완료");
+        String normalized = content.replaceAll("\\s+", " ").trim();
+        if (normalized.codePointCount(0, normalized.length()) <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+        int end = normalized.offsetByCodePoints(0, EXCERPT_LENGTH);
+        return normalized.substring(0, end) + "…";
     }
     
     private PostResponse convertToResponse(Post post) {
-        int commentCount = commentRepository.countByPostId(post.getId());
+        int commentCount = post.getCommentCount() != null ? post.getCommentCount() : 0;
+        // DB 값 + 아직 반영되지 않은 버퍼 조회수
+        int viewCount = (post.getViewCount() != null ? post.getViewCount() : 0)
+                + (int) viewCountBuffer.pending(post.getId());
+        // 메모리 스케치가 있으면 그 추정치, 없으면 마지막으로 저장된 값
+        int uniqueViewCount = (int) Math.max(uniqueViewTracker.cachedEstimate(post.getId()),
+                post.getUniqueViewCount() != null ? post.getUniqueViewCount() : 0);
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .author(post.getAuthorNickname())
-                .viewCount(post.getViewCount())
+                .viewCount(viewCount)
+                .uniqueViewCount(uniqueViewCount)
                 .hasImages(post.getHasImages())
                 .commentCount(commentCount)
+                .likeCount(post.getLikeCount())
+                .dislikeCount(post.getDislikeCount())
                 .createdAt(post.getCreatedAt())
                 .build();
     }
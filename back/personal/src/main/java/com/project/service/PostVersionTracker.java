@@ -0,0 +1,111 @@
+package com.project.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 콘텐츠 버전 관리.
+ * 게시글별 버전과 피드 전체 버전을 메모리에 두어 304 응답 여부를 DB 조회 없이 판단한다.
+ *
+ * 버전은 서버 기동 시각으로 시드된 단조 증가 값이라 재기동 후에도 이전 ETag와 겹치지 않는다.
+ * 게시글 버전은 처음 조회될 때 Post.updatedAt(없으면 createdAt)으로 시드하므로 재기동 후에도
+ * 바뀌지 않은 게시글은 같은 ETag/Last-Modified를 가지며, 이후 내용 수정이나 카운터 변경 시 올라간다.
+ * 피드 버전은 쓰기 외에 피드 캐시 TTL 단위 시간 구간이 바뀔 때도 올라가므로,
+ * 버전을 올리지 않는 조회수 반영/카운터 보정도 304 클라이언트에게 최대 TTL 지연으로 보인다.
+ */
+@Component
+public class PostVersionTracker {
+    
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Map<Long, Version> postVersions;
+    private final long feedRefreshMillis;
+    private volatile Version feedVersion;
+    private volatile long feedBucket;
+    
+    @Getter
+    @AllArgsConstructor
+    public static class Version {
+        private final String eTag;
+        private final long lastModified; // epoch millis
+    }
+    
+    public PostVersionTracker(@Value("${post.version.max-entries:100000}") int maxEntries,
+                              @Value("${post.cache.feed.ttl-ms:5000}") long feedRefreshMillis) {
+        this.feedRefreshMillis = Math.max(1, feedRefreshMillis);
+        this.postVersions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Version> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.feedVersion = new Version("W/\"feed-" + clock.incrementAndGet() + "\"", System.currentTimeMillis());
+        this.feedBucket = currentFeedBucket();
+    }
+    
+    /**
+     * 알려진 게시글 버전만 반환 (모르면 null - 이 경우 DB 조회가 필요)
+     */
+    public Version peekPost(Long postId) {
+        return postVersions.get(postId);
+    }
+    
+    /**
+     * 게시글 버전 반환, 없으면 lastModifiedLoader(게시글의 updatedAt, epoch millis)로 시드
+     */
+    public Version currentPost(Long postId, Function<Long, Long> lastModifiedLoader) {
+        Version known = postVersions.get(postId);
+        if (known != null) {
+            return known;
+        }
+        
+        // DB 조회는 맵 락 밖에서 - 그 사이 bumpPost가 먼저 들어오면 그 버전이 우선
+        Long lastModified = lastModifiedLoader.apply(postId);
+        if (lastModified == null) {
+            return newPostVersion(postId, 0); // 없는 게시글 - 저장하지 않음
+        }
+        return postVersions.computeIfAbsent(postId,
+                id -> new Version("W/\"p" + id + "-u" + lastModified + "\"", lastModified));
+    }
+    
+    public void bumpPost(Long postId) {
+        postVersions.compute(postId, (id, previous) ->
+                newPostVersion(id, previous != null ? previous.getLastModified() : 0));
+    }
+    
+    public Version feed() {
+        if (currentFeedBucket() != feedBucket) {
+            // 시간 구간이 바뀌었으면 쓰기가 없어도 새 버전 (조회수 등 지연 반영분 노출)
+            bumpFeed();
+        }
+        return feedVersion;
+    }
+    
+    public synchronized void bumpFeed() {
+        feedVersion = new Version("W/\"feed-" + clock.incrementAndGet() + "\"",
+                nextLastModified(feedVersion.getLastModified()));
+        feedBucket = currentFeedBucket();
+    }
+    
+    private long currentFeedBucket() {
+        return System.currentTimeMillis() / feedRefreshMillis;
+    }
+    
+    private Version newPostVersion(Long postId, long previousLastModified) {
+        return new Version("W/\"p" + postId + "-" + clock.incrementAndGet() + "\"",
+                nextLastModified(previousLastModified));
+    }
+    
+    // 시계가 뒤로 가더라도 Last-Modified는 줄어들지 않게 함
+    // (HTTP 날짜는 초 단위라 같은 초 안의 변경은 ETag로만 구분됨)
+    private static long nextLastModified(long previous) {
+        return Math.max(System.currentTimeMillis(), previous);
+    }
+}
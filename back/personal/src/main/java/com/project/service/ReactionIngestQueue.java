@@ -0,0 +1,287 @@
+package com.project.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 좋아요/비추천 그룹 커밋 수집 큐 (reaction.ingest.mode=queued 일 때만 사용).
+ * 요청 스레드는 토글을 제한된 크기의 메모리 큐에 넣고 예상 상태를 바로 돌려주며,
+ * 전용 쓰기 스레드가 몇 ms 간격으로 큐를 비워 한 트랜잭션으로 묶어 반영한다.
+ * 큐가 가득 차면 reaction.ingest.offer-timeout-ms 만큼 기다린 뒤 "BUSY:" 예외로 거절한다.
+ * 비정상 종료 시 유실 가능한 반응은 큐에 남아 있던 분량이다.
+ */
+@Component
+public class ReactionIngestQueue {
+    
+    private final PostReactionWriter postReactionWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final TrendingTracker trendingTracker;
+    private final PostCache postCache;
+    
+    private final boolean enabled;
+    private final BlockingQueue<Command> queue;
+    private final int batchSize;
+    private final long batchIntervalMs;
+    private final long offerTimeoutMs;
+    
+    // 사용자별 예상 상태 (아직 반영되지 않은 토글이 있는 동안만 유지)
+    private final Map<String, Pending> pendingByUser = new ConcurrentHashMap<>();
+    // 게시글별 아직 반영되지 않은 예상 카운터 증감 {like, dislike}
+    private final Map<Long, int[]> pendingDeltas = new ConcurrentHashMap<>();
+    private final Object[] locks;
+    
+    private volatile boolean running;
+    private Thread writerThread;
+    
+    private static class Command {
+        private final Long postId;
+        private final Long userId;
+        private final String likeType;
+        private final int likeDelta;    // 예상 증감
+        private final int dislikeDelta;
+        
+        private Command(Long postId, Long userId, String likeType, int likeDelta, int dislikeDelta) {
+            this.postId = postId;
+            this.userId = userId;
+            this.likeType = likeType;
+            this.likeDelta = likeDelta;
+            this.dislikeDelta = dislikeDelta;
+        }
+    }
+    
+    private static class Pending {
+        private String status;
+        private int inFlight;
+    }
+    
+    public ReactionIngestQueue(PostReactionWriter postReactionWriter,
+                               PlatformTransactionManager transactionManager,
+                               TrendingTracker trendingTracker,
+                               PostCache postCache,
+                               @Value("${reaction.ingest.mode:direct}") String mode,
+                               @Value("${reaction.ingest.queue-capacity:10000}") int queueCapacity,
+                               @Value("${reaction.ingest.batch-size:500}") int batchSize,
+                               @Value("${reaction.ingest.batch-interval-ms:5}") long batchIntervalMs,
+                               @Value("${reaction.ingest.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.postReactionWriter = postReactionWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.trendingTracker = trendingTracker;
+        this.postCache = postCache;
+        this.enabled = "queued".equalsIgnoreCase(mode);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.batchIntervalMs = Math.max(0, batchIntervalMs);
+        this.offerTimeoutMs = Math.max(0, offerTimeoutMs);
+        this.locks = new Object[64];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "reaction-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        System.out.println("반응 그룹 커밋 모드 시작: 큐 " + queue.remainingCapacity() + ", 배치 " + batchSize);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(10_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            System.err.println("종료 시 반영하지 못한 반응: " + queue.size() + "건");
+        }
+    }
+    
+    /**
+     * 토글을 큐에 넣고 예상 상태("like", "dislike", null)를 반환한다.
+     * currentStatus는 대기 중인 토글이 없을 때만 호출되는 DB 상태 조회.
+     */
+    public String enqueue(Long postId, Long userId, String likeType, Supplier<String> currentStatus) {
+        String key = key(postId, userId);
+        synchronized (lockOf(key)) {
+            Pending pending = pendingByUser.get(key);
+            String before = pending != null ? pending.status : currentStatus.get();
+            String after = likeType.equals(before) ? null : likeType;
+            
+            int likeDelta = ("like".equals(after) ? 1 : 0) - ("like".equals(before) ? 1 : 0);
+            int dislikeDelta = ("dislike".equals(after) ? 1 : 0) - ("dislike".equals(before) ? 1 : 0);
+            Command command = new Command(postId, userId, likeType, likeDelta, dislikeDelta);
+            
+            try {
+                if (!queue.offer(command, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new RuntimeException("BUSY:요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("BUSY:요청이 중단되었습니다.");
+            }
+            
+            if (pending == null) {
+                pending = new Pending();
+                pendingByUser.put(key, pending);
+            }
+            pending.status = after;
+            pending.inFlight++;
+            addDelta(postId, likeDelta, dislikeDelta);
+            return after;
+        }
+    }
+    
+    public boolean hasPending(Long postId, Long userId) {
+        return enabled && pendingByUser.containsKey(key(postId, userId));
+    }
+    
+    public String pendingStatus(Long postId, Long userId) {
+        Pending pending = pendingByUser.get(key(postId, userId));
+        return pending != null ? pending.status : null;
+    }
+    
+    /**
+     * 아직 반영되지 않은 예상 카운터 증감 {like, dislike}
+     */
+    public int[] pendingDelta(Long postId) {
+        int[] delta = pendingDeltas.get(postId);
+        return delta != null ? new int[]{delta[0], delta[1]} : new int[]{0, 0};
+    }
+    
+    private void runWriter() {
+        List<Command> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                if (batchIntervalMs > 0 && running) {
+                    // 짧게 기다려 같은 커밋에 묶일 요청을 모은다
+                    Thread.sleep(batchIntervalMs);
+                }
+                queue.drainTo(batch, batchSize - 1);
+                applyBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                System.err.println("반응 배치 처리 실패: " + e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    private void applyBatch(List<Command> batch) {
+        // 게시글 순으로 잠가 다른 트랜잭션과의 교착을 피한다 (안정 정렬이라 같은 사용자의 순서는 유지)
+        List<Command> ordered = new ArrayList<>(batch);
+        ordered.sort(Comparator.comparing(c -> c.postId));
+        
+        List<PostReactionWriter.Result> results;
+        try {
+            results = transactionTemplate.execute(status -> {
+                List<PostReactionWriter.Result> applied = new ArrayList<>(ordered.size());
+                for (Command command : ordered) {
+                    applied.add(postReactionWriter.toggle(command.postId, command.userId, command.likeType));
+                }
+                return applied;
+            });
+        } catch (Exception e) {
+            // 삭제된 게시글 등 한 건 때문에 배치 전체가 롤백되면 건별로 다시 반영
+            System.err.println("반응 배치 롤백, 건별 재시도: " + e.getMessage());
+            results = new ArrayList<>(ordered.size());
+            for (Command command : ordered) {
+                try {
+                    results.add(transactionTemplate.execute(status ->
+                            postReactionWriter.toggle(command.postId, command.userId, command.likeType)));
+                } catch (Exception single) {
+                    System.err.println("반응 반영 실패 (게시글 " + command.postId + "): " + single.getMessage());
+                    results.add(null);
+                }
+            }
+        }
+        
+        Set<Long> changedPosts = new LinkedHashSet<>();
+        Map<Long, int[]> trendingDeltas = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            Command command = ordered.get(i);
+            PostReactionWriter.Result result = results.get(i);
+            complete(command);
+            if (result != null && (result.getLikeDelta() != 0 || result.getDislikeDelta() != 0)) {
+                int[] delta = trendingDeltas.computeIfAbsent(command.postId, id -> new int[2]);
+                delta[0] += result.getLikeDelta();
+                delta[1] += result.getDislikeDelta();
+                changedPosts.add(command.postId);
+            }
+        }
+        
+        trendingDeltas.forEach((postId, delta) -> trendingTracker.onReaction(postId, delta[0], delta[1]));
+        for (Long postId : changedPosts) {
+            postCache.onPostChanged(postId);
+        }
+    }
+    
+    private void complete(Command command) {
+        String key = key(command.postId, command.userId);
+        synchronized (lockOf(key)) {
+            Pending pending = pendingByUser.get(key);
+            if (pending != null && --pending.inFlight <= 0) {
+                pendingByUser.remove(key);
+            }
+            addDelta(command.postId, -command.likeDelta, -command.dislikeDelta);
+        }
+    }
+    
+    private void addDelta(Long postId, int likeDelta, int dislikeDelta) {
+        if (likeDelta == 0 && dislikeDelta == 0) {
+            return;
+        }
+        pendingDeltas.compute(postId, (id, delta) -> {
+            int[] next = delta != null ? delta : new int[2];
+            next[0] += likeDelta;
+            next[1] += dislikeDelta;
+            return next[0] == 0 && next[1] == 0 ? null : next;
+        });
+    }
+    
+    private Object lockOf(String key) {
+        return locks[(key.hashCode() & 0x7fffffff) % locks.length];
+    }
+    
+    private static String key(Long postId, Long userId) {
+        return postId + ":" + userId;
+    }
+}
@@ -0,0 +1,165 @@
+package com.project.service;
+
+import com.project.entity.RefreshToken;
+import com.project.entity.User;
+import com.project.repository.RefreshTokenRepository;
+import com.project.repository.UserRepository;
+import com.project.util.JwtUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 짧은 액세스 토큰 + 회전하는 리프레시 토큰 발급.
+ * - 리프레시 토큰은 해시로만 저장하고, 사용할 때마다 새 토큰으로 교체한다.
+ * - 이미 사용된 토큰이 다시 오면 탈취로 보고 같은 가족 전체를 폐기한다. (재사용 감지)
+ *   단, 회전 직후 refresh-token.reuse-grace-ms 안에 다시 온 요청은 동시 갱신으로 보고 같은 가족으로 한 번만 더 발급한다.
+ * - 회전 시점에 사용자 정지/권한을 DB에서 다시 확인하므로 상태 변경은 최대 액세스 토큰 수명 안에 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final TokenRevocationSet tokenRevocationSet;
+    
+    @Value("${jwt.refresh-expiration:1209600000}") // 14일
+    private long refreshExpiration;
+    
+    @Value("${refresh-token.reuse-grace-ms:10000}")
+    private long reuseGraceMillis;
+    
+    @Getter
+    @AllArgsConstructor
+    public static class TokenPair {
+        private final String accessToken;
+        private final String refreshToken;
+        private final User user;
+    }
+    
+    /**
+     * 로그인/회원가입 시 새 토큰 가족 시작
+     */
+    public TokenPair issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+    
+    /**
+     * 리프레시 토큰을 새 액세스/리프레시 토큰으로 교체
+     */
+    public TokenPair rotate(String rawToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new RuntimeException("유효하지 않은 리프레시 토큰입니다."));
+        
+        LocalDateTime now = LocalDateTime.now();
+        if (Boolean.TRUE.equals(stored.getRevoked()) || stored.getUsedAt() != null
+                || refreshTokenRepository.markUsed(stored.getId(), now) == 0) {
+            // 방금 다른 요청이 사용 처리했을 수 있으므로 최신 상태로 판단
+            RefreshToken current = stored.getUsedAt() != null || Boolean.TRUE.equals(stored.getRevoked())
+                    ? stored
+                    : refreshTokenRepository.findById(stored.getId()).orElse(stored);
+            if (!isConcurrentRefresh(current, now) || refreshTokenRepository.markGraceIssued(stored.getId()) == 0) {
+                // 이미 회전된(또는 폐기된) 토큰 재사용 - 가족 전체 폐기
+                revokeFamily(stored.getFamilyId());
+                System.err.println("리프레시 토큰 재사용 감지: 사용자 " + stored.getUserId() + ", 가족 " + stored.getFamilyId());
+                throw new RuntimeException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+            }
+            // 동시 갱신 요청 - 토큰당 한 번만 재사용으로 보지 않고 아래에서 같은 가족으로 발급
+        }
+        
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new RuntimeException("리프레시 토큰이 만료되었습니다. 다시 로그인해주세요.");
+        }
+        
+        User user = userRepository.findById(stored.getUserId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        if (Boolean.TRUE.equals(user.getIsSuspended())
+                && (user.getSuspensionEndTime() == null || user.getSuspensionEndTime().isAfter(now))) {
+            revokeFamily(stored.getFamilyId());
+            throw new RuntimeException("SUSPENDED:정지된 계정입니다. 다시 로그인해주세요.");
+        }
+        
+        return issue(user, stored.getFamilyId());
+    }
+    
+    /**
+     * 로그아웃 - 토큰 가족 폐기 (이미 발급된 액세스 토큰도 폐기 집합으로 즉시 거부)
+     */
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(stored -> revokeFamily(stored.getFamilyId()));
+    }
+    
+    @Scheduled(initialDelayString = "${refresh-token.cleanup-interval-ms:3600000}",
+               fixedDelayString = "${refresh-token.cleanup-interval-ms:3600000}")
+    public void deleteExpiredTokens() {
+        try {
+            int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                System.out.println("만료된 리프레시 토큰 삭제: " + deleted + "개");
+            }
+        } catch (Exception e) {
+            System.err.println("만료된 리프레시 토큰 삭제 실패: " + e.getMessage());
+        }
+    }
+    
+    private TokenPair issue(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUserId(user.getId());
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)));
+        refreshTokenRepository.save(refreshToken);
+        
+        String accessToken = jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole(),
+                securityVersionRegistry.current(user.getId()), familyId);
+        return new TokenPair(accessToken, rawToken, user);
+    }
+    
+    /**
+     * 폐기되지 않았고, 사용 처리된 지 reuse-grace 이내이며 아직 동시 갱신 발급을 하지 않았으면
+     * 같은 클라이언트의 동시 갱신 요청으로 본다 (발급 권한은 markGraceIssued로 한 요청만 얻는다)
+     */
+    private boolean isConcurrentRefresh(RefreshToken token, LocalDateTime now) {
+        return !Boolean.TRUE.equals(token.getRevoked())
+                && !Boolean.TRUE.equals(token.getGraceIssued())
+                && token.getUsedAt() != null
+                && !token.getUsedAt().isBefore(now.minus(Duration.ofMillis(reuseGraceMillis)));
+    }
+    
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId);
+        tokenRevocationSet.revoke(familyId);
+    }
+    
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.service;
+
+import com.project.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 "최소 유효 보안 버전" 맵.
+ * 액세스 토큰은 발급 시점의 버전(sv 클레임)을 담고, 필터는 sv가 최소 버전 이상인지 메모리에서만 확인한다.
+ * 정지/권한 변경/삭제 시 버전을 올리면 그 전에 발급된 토큰은 즉시 무효가 된다.
+ * 버전은 올린 시각(ms)이라 토큰 만료 시간보다 오래된 항목은 의미가 없어 주기적으로 정리한다.
+ *
+ * 올린 버전은 users.security_version에도 저장해 재기동 시 다시 읽으므로 정지/권한 변경이 재기동 후에도 유지된다.
+ * 삭제된 사용자는 행이 없어 버전을 남길 수 없으므로, 기동 전에 발급된 토큰은 필터가 사용자 존재를 한 번 더 확인한다.
+ */
+@Component
+public class SecurityVersionRegistry {
+    
+    private final UserRepository userRepository;
+    private final long tokenLifetimeMillis;
+    private final Map<Long, Long> minVersions = new ConcurrentHashMap<>();
+    private final long startedAt = System.currentTimeMillis();
+    
+    public SecurityVersionRegistry(UserRepository userRepository,
+                                   @Value("${jwt.expiration:900000}") long tokenLifetimeMillis) {
+        this.userRepository = userRepository;
+        this.tokenLifetimeMillis = tokenLifetimeMillis;
+    }
+    
+    /**
+     * 새 토큰에 담을 현재 버전
+     */
+    public long current(Long userId) {
+        return minVersions.getOrDefault(userId, 0L);
+    }
+    
+    public boolean isValid(Long userId, long version) {
+        return version >= current(userId);
+    }
+    
+    /**
+     * 지금까지 발급된 해당 사용자의 토큰을 모두 무효화
+     */
+    public void bump(Long userId) {
+        long version = minVersions.merge(userId, System.currentTimeMillis(), (old, now) -> Math.max(old + 1, now));
+        userRepository.raiseSecurityVersion(userId, version);
+    }
+    
+    /**
+     * 이 서버가 기동되기 전에 발급된 토큰인지 - 그 사이 삭제된 사용자의 토큰일 수 있다.
+     */
+    public boolean issuedBeforeStartup(Date issuedAt) {
+        return issuedAt == null || issuedAt.getTime() < startedAt;
+    }
+    
+    /**
+     * 맵은 재시작 시 비므로 저장된 보안 버전을 다시 읽고,
+     * 버전 컬럼 도입 전에 정지된 사용자의 기존 토큰은 시작 시점 기준으로 무효화한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedVersions() {
+        try {
+            List<Object[]> persisted = userRepository.findSecurityVersionsAfter(startedAt - tokenLifetimeMillis);
+            for (Object[] row : persisted) {
+                minVersions.merge((Long) row[0], ((Number) row[1]).longValue(), Math::max);
+            }
+            
+            List<Long> suspended = userRepository.findSuspendedUserIds();
+            for (Long userId : suspended) {
+                minVersions.merge(userId, startedAt, Math::max);
+            }
+            System.out.println("보안 버전 복원: " + persisted.size() + "명, 정지 사용자 토큰 무효화: " + suspended.size() + "명");
+        } catch (Exception e) {
+            System.err.println("보안 버전 복원 실패: " + e.getMessage());
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${security-version.prune-interval-ms:600000}")
+    public void prune() {
+        long cutoff = System.currentTimeMillis() - tokenLifetimeMillis;
+        minVersions.values().removeIf(version -> version < cutoff);
+    }
+}
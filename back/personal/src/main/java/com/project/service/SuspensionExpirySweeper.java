@@ -0,0 +1,50 @@
+package com.project.service;
+
+import com.project.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정지 기간이 지난 사용자를 주기적으로 한 번의 UPDATE로 일괄 해제한다.
+ * 요청 경로(인증 필터, 로그인, 정지 확인)는 만료된 정지를 정지되지 않은 것으로 읽기만 하고
+ * DB에 쓰지 않으므로, 해제가 다음 실행까지 늦어져도 사용자는 바로 이용할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SuspensionExpirySweeper {
+    
+    private final UserRepository userRepository;
+    private final UserSecurityCache userSecurityCache;
+    
+    @Scheduled(initialDelayString = "${suspension.sweep-interval-ms:60000}",
+               fixedDelayString = "${suspension.sweep-interval-ms:60000}")
+    public void scheduledSweep() {
+        try {
+            int lifted = sweep();
+            if (lifted > 0) {
+                System.out.println("정지 기간 만료 사용자 일괄 해제: " + lifted + "명");
+            }
+        } catch (Exception e) {
+            System.err.println("정지 기간 만료 사용자 해제 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 만료된 정지를 해제하고 해제된 사용자 수를 반환한다.
+     */
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> usernames = userRepository.findExpiredSuspensionUsernames(now);
+        if (usernames.isEmpty()) {
+            return 0;
+        }
+        
+        int lifted = userRepository.liftExpiredSuspensions(now);
+        usernames.forEach(userSecurityCache::invalidate);
+        return lifted;
+    }
+}
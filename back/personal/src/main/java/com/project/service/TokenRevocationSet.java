@@ -0,0 +1,42 @@
+package com.project.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃/재사용 감지로 폐기된 토큰 가족(familyId) 집합.
+ * 이미 발급된 액세스 토큰은 만료 전까지 유효하므로, 그 기간 동안만 필터에서 거부하도록 기억한다.
+ * 액세스 토큰 수명이 짧아 항목은 금방 만료되고 집합은 작게 유지된다.
+ */
+@Component
+public class TokenRevocationSet {
+    
+    private final long accessTokenLifetimeMillis;
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+    
+    public TokenRevocationSet(@Value("${jwt.expiration:900000}") long accessTokenLifetimeMillis) {
+        this.accessTokenLifetimeMillis = accessTokenLifetimeMillis;
+    }
+    
+    public void revoke(String familyId) {
+        revokedUntil.put(familyId, System.currentTimeMillis() + accessTokenLifetimeMillis);
+    }
+    
+    public boolean isRevoked(String familyId) {
+        if (familyId == null) {
+            return false;
+        }
+        Long until = revokedUntil.get(familyId);
+        return until != null && until > System.currentTimeMillis();
+    }
+    
+    @Scheduled(fixedDelayString = "${token-revocation.prune-interval-ms:60000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        revokedUntil.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 인기(hot) 피드용 시간 감쇠 점수 추적기.
+ *
+ * 전방 감쇠(forward decay) 방식으로, 이벤트 가중치에 exp(λ·(t - t0))를 곱해 누적한다.
+ * 모든 점수에 같은 감쇠 계수가 적용되므로 기존 점수를 매번 다시 계산하지 않아도 순위가 유지되고,
+ * 이벤트마다 해당 게시글 하나만 O(log N)으로 재정렬하며 상위 K개 조회는 O(K)이다.
+ * 추적 게시글 수는 maxTracked로 제한하며 넘치면 점수가 가장 낮은 게시글부터 버린다.
+ */
+@Component
+public class TrendingTracker {
+    
+    private static final double RESCALE_THRESHOLD = 1e100;
+    
+    private final double lambda; // 감쇠율 (ln2 / 반감기)
+    private final int maxTracked;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double dislikeWeight;
+    private final double commentWeight;
+    
+    private long referenceTime = System.currentTimeMillis();
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Long> ranking = new TreeSet<>((a, b) -> {
+        int byScore = Double.compare(scores.get(b), scores.get(a));
+        return byScore != 0 ? byScore : Long.compare(b, a);
+    });
+    
+    public TrendingTracker(@Value("${trending.half-life-hours:6}") double halfLifeHours,
+                           @Value("${trending.max-tracked:10000}") int maxTracked,
+                           @Value("${trending.weight.view:1}") double viewWeight,
+                           @Value("${trending.weight.like:5}") double likeWeight,
+                           @Value("${trending.weight.dislike:-3}") double dislikeWeight,
+                           @Value("${trending.weight.comment:3}") double commentWeight) {
+        this.lambda = Math.log(2) / (halfLifeHours * 3600_000L);
+        this.maxTracked = maxTracked;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.dislikeWeight = dislikeWeight;
+        this.commentWeight = commentWeight;
+    }
+    
+    public void onView(Long postId) {
+        add(postId, viewWeight);
+    }
+    
+    public void onComment(Long postId) {
+        add(postId, commentWeight);
+    }
+    
+    /**
+     * 좋아요/비추천 변화량 반영 (추가 +1, 취소 -1)
+     */
+    public void onReaction(Long postId, int likeDelta, int dislikeDelta) {
+        double weight = likeDelta * likeWeight + dislikeDelta * dislikeWeight;
+        if (weight != 0) {
+            add(postId, weight);
+        }
+    }
+    
+    public synchronized void remove(Long postId) {
+        if (scores.containsKey(postId)) {
+            ranking.remove(postId);
+            scores.remove(postId);
+        }
+    }
+    
+    /**
+     * 현재 점수 상위 게시글 id (O(limit))
+     */
+    public synchronized List<Long> top(int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Long> it = ranking.iterator();
+        while (it.hasNext() && result.size() < limit) {
+            result.add(it.next());
+        }
+        return result;
+    }
+    
+    private synchronized void add(Long postId, double weight) {
+        double factor = Math.exp(lambda * (System.currentTimeMillis() - referenceTime));
+        if (factor > RESCALE_THRESHOLD) {
+            rescale(factor);
+            factor = 1.0;
+        }
+        
+        Double previous = scores.get(postId);
+        if (previous != null) {
+            ranking.remove(postId);
+        }
+        scores.put(postId, (previous != null ? previous : 0.0) + weight * factor);
+        ranking.add(postId);
+        
+        if (ranking.size() > maxTracked) {
+            Long lowest = ranking.pollLast();
+            scores.remove(lowest);
+        }
+    }
+    
+    // 감쇠 계수가 너무 커지면 기준 시각을 현재로 옮기고 모든 점수를 같은 비율로 줄임 (순위 불변)
+    private void rescale(double factor) {
+        List<Long> ordered = new ArrayList<>(ranking);
+        ranking.clear();
+        scores.replaceAll((id, score) -> score / factor);
+        ranking.addAll(ordered);
+        referenceTime = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,162 @@
+package com.project.service;
+
+import com.project.util.Hashing;
+import com.project.util.HyperLogLog;
+import com.project.util.RotatingBloomFilter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 고유 조회자 집계.
+ *
+ * - 반복 조회 제거: (게시글, 조회자) 키를 시간 창 Bloom filter에 기록해 창 안의 새로고침은 조회수로 세지 않는다.
+ * - 고유 조회자 수: 게시글별 HyperLogLog 스케치로 추정한다.
+ *   스케치는 메모리에 LRU로 제한해 두고, 변경분을 주기적으로 posts.unique_viewer_sketch(VARBINARY)와
+ *   posts.unique_view_count 컬럼에 배치로 저장하며, 메모리에 없으면 DB에서 다시 읽는다.
+ *
+ * 조회자 키는 로그인 사용자는 사용자 id, 비로그인 사용자는 IP의 해시이며 원본 IP는 저장하지 않는다.
+ */
+@Component
+public class UniqueViewTracker {
+    
+    private static final String LOAD_SQL = "SELECT unique_viewer_sketch FROM posts WHERE id = ?";
+    private static final String SAVE_SQL = "UPDATE posts SET unique_viewer_sketch = ?, unique_view_count = ? WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int precision;
+    private final RotatingBloomFilter recentViews;
+    
+    private final LinkedHashMap<Long, HyperLogLog> sketches;
+    private final Map<Long, HyperLogLog> dirty = new HashMap<>();
+    
+    public UniqueViewTracker(JdbcTemplate jdbcTemplate,
+                             @Value("${unique-view.hll.precision:10}") int precision,
+                             @Value("${unique-view.hll.max-sketches:10000}") int maxSketches,
+                             @Value("${unique-view.bloom.bits:8388608}") int bloomBits,
+                             @Value("${unique-view.bloom.hashes:5}") int bloomHashes,
+                             @Value("${unique-view.dedup-window-minutes:30}") long dedupWindowMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.precision = precision;
+        this.recentViews = new RotatingBloomFilter(bloomBits, bloomHashes, dedupWindowMinutes * 60_000L);
+        // 스케치가 LRU에서 밀려나도 dirty 맵에 남아 있으므로 다음 저장 때 반영됨
+        this.sketches = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, HyperLogLog> eldest) {
+                return size() > maxSketches;
+            }
+        };
+    }
+    
+    public static String viewerKey(Long userId, String clientIp) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        return "ip:" + Long.toHexString(Hashing.hash64(clientIp != null ? clientIp : "", 0x5bd1e995L));
+    }
+    
+    /**
+     * 조회 기록. 창 안에서 처음 보는 조회자면 true (조회수를 올려야 함), 반복 조회면 false
+     */
+    public boolean recordView(Long postId, String viewerKey) {
+        if (!recentViews.addIfAbsent(postId + "|" + viewerKey)) {
+            return false;
+        }
+        
+        long hash = Hashing.hash64(viewerKey, postId);
+        HyperLogLog sketch = sketchOf(postId);
+        synchronized (this) {
+            if (sketch.add(hash)) {
+                dirty.put(postId, sketch);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 메모리에 있는 스케치의 고유 조회자 추정치 (없으면 -1)
+     */
+    public synchronized long cachedEstimate(Long postId) {
+        HyperLogLog sketch = dirty.containsKey(postId) ? dirty.get(postId) : sketches.get(postId);
+        return sketch != null ? sketch.estimate() : -1;
+    }
+    
+    public synchronized void remove(Long postId) {
+        sketches.remove(postId);
+        dirty.remove(postId);
+    }
+    
+    @Scheduled(fixedDelayString = "${unique-view.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            System.err.println("고유 조회자 스케치 저장 실패: " + e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            System.err.println("종료 전 고유 조회자 스케치 저장 실패: " + e.getMessage());
+        }
+    }
+    
+    public int flush() {
+        List<Object[]> batch = new ArrayList<>();
+        Map<Long, HyperLogLog> flushing;
+        synchronized (this) {
+            if (dirty.isEmpty()) {
+                return 0;
+            }
+            flushing = new HashMap<>(dirty);
+            dirty.clear();
+            for (Map.Entry<Long, HyperLogLog> e : flushing.entrySet()) {
+                batch.add(new Object[]{e.getValue().toBytes(), e.getValue().estimate(), e.getKey()});
+            }
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(SAVE_SQL, batch);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                flushing.forEach(dirty::putIfAbsent);
+            }
+            throw e;
+        }
+        return batch.size();
+    }
+    
+    private HyperLogLog sketchOf(Long postId) {
+        synchronized (this) {
+            HyperLogLog sketch = dirty.containsKey(postId) ? dirty.get(postId) : sketches.get(postId);
+            if (sketch != null) {
+                sketches.putIfAbsent(postId, sketch);
+                return sketch;
+            }
+        }
+        
+        // DB 조회는 락 밖에서 수행
+        List<byte[]> rows = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> rs.getBytes(1), postId);
+        HyperLogLog loaded = HyperLogLog.fromBytes(precision, rows.isEmpty() ? null : rows.get(0));
+        
+        synchronized (this) {
+            HyperLogLog existing = dirty.containsKey(postId) ? dirty.get(postId) : sketches.get(postId);
+            if (existing != null) {
+                return existing;
+            }
+            sketches.put(postId, loaded);
+            return loaded;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.service;
+
+import com.project.dto.CacheStatsResponse;
+import com.project.entity.User;
+import com.project.repository.UserRepository;
+import com.project.util.WeightedLruCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 보안 상태(id, 권한, 정지 여부) 캐시 - username 기준, 크기 제한 + TTL.
+ * 인증 필터와 서비스의 정지 확인이 요청마다 users 테이블을 조회하지 않도록 한다.
+ * 정지/해제/권한 변경/삭제/프로필 변경 시 즉시 무효화하며, TTL은 놓친 변경에 대한 안전망이다.
+ */
+@Component
+public class UserSecurityCache {
+    
+    private static final DateTimeFormatter SUSPENSION_FORMAT = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분");
+    
+    private final UserRepository userRepository;
+    private final WeightedLruCache<String, State> cache;
+    
+    // 무효화 세대 - DB 조회 도중 무효화가 일어나면 조회 결과를 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+    
+    @Getter
+    @AllArgsConstructor
+    public static class State {
+        private final Long userId;
+        private final String username;
+        private final String role;
+        private final boolean suspended;
+        private final LocalDateTime suspensionEndTime; // 정지 중인데 null이면 영구 정지
+        
+        public boolean isSuspendedAt(LocalDateTime now) {
+            return suspended && (suspensionEndTime == null || suspensionEndTime.isAfter(now));
+        }
+        
+        public String suspensionMessage() {
+            if (suspensionEndTime == null) {
+                return "영구 정지된 계정입니다. 관리자에게 문의하세요.";
+            }
+            return "계정이 정지되었습니다. 정지 해제 시간: " + suspensionEndTime.format(SUSPENSION_FORMAT);
+        }
+    }
+    
+    public UserSecurityCache(UserRepository userRepository,
+                             @Value("${user.security-cache.max-entries:10000}") long maxEntries,
+                             @Value("${user.security-cache.ttl-ms:60000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.cache = new WeightedLruCache<>("userSecurity", maxEntries, ttlMillis, state -> 1L);
+    }
+    
+    public Optional<State> get(String username) {
+        State cached = cache.get(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        long loadGeneration = generation.get();
+        Optional<State> loaded = userRepository.findByUsername(username).map(UserSecurityCache::toState);
+        if (loaded.isPresent() && loadGeneration == generation.get()) {
+            cache.put(username, loaded.get());
+        }
+        return loaded;
+    }
+    
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+    
+    public void invalidate(User user) {
+        invalidate(user.getUsername());
+    }
+    
+    public CacheStatsResponse stats() {
+        return cache.stats();
+    }
+    
+    private static State toState(User user) {
+        return new State(user.getId(), user.getUsername(), user.getRole(),
+                Boolean.TRUE.equals(user.getIsSuspended()), user.getSuspensionEndTime());
+    }
+}
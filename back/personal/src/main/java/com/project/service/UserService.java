@@ -6,18 +6,20 @@ import com.project.dto.SignupRequest;
 import com.project.dto.SignupResponse;
 import com.project.entity.User;
 import com.project.repository.UserRepository;
-import com.project.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtUtil jwtUtil;
+    private final PasswordHasher passwordHasher;
+    private final UserSecurityCache userSecurityCache;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final RefreshTokenService refreshTokenService;
     
     public SignupResponse signup(SignupRequest request) {
         // 아이디 중복 체크
@@ -41,7 +43,7 @@ public class UserService {
         // 사용자 생성
         User user = new User();
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword())); // 비밀번호 암호화
+        user.setPassword(passwordHasher.encode(request.getPassword())); // 비밀번호 암호화
         user.setNickname(request.getNickname());
         
         System.out.println("사용자 저장 시도: " + user.getUsername());
@@ -54,13 +56,14 @@ public class UserService {
             throw e;
         }
         
-        // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getUsername());
+        // 액세스 토큰 + 리프레시 토큰 발급
+        RefreshTokenService.TokenPair tokens = refreshTokenService.issue(user);
         
         SignupResponse response = new SignupResponse();
         response.setSuccess(true);
         response.setMessage("회원가입이 완료되었습니다.");
-        response.setToken(token);
+        response.setToken(tokens.getAccessToken());
+        response.setRefreshToken(tokens.getRefreshToken());
         return response;
     }
     
@@ -70,7 +73,7 @@ public class UserService {
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
         
@@ -121,29 +124,58 @@ public class UserService {
                 message += "\n\n정지 해제 후 다시 로그인해 주세요.";
                 
                 throw new RuntimeException(message);
-            } else {
-                // 정지 시간이 지났으면 정지 해제
-                user.setIsSuspended(false);
-                user.setSuspensionEndTime(null);
-                user.setSuspensionReason(null);
+            }
+            // 정지 시간이 지났으면 로그인 허용 (DB 해제는 SuspensionExpirySweeper가 처리)
+        }
+        
+        // BCrypt cost 설정이 바뀌었으면 평문을 알고 있는 지금 새 cost로 재해시
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            try {
+                user.setPassword(passwordHasher.encode(request.getPassword()));
                 userRepository.save(user);
+                passwordHasher.recordRehash();
+            } catch (Exception e) {
+                // 재해시 실패는 로그인 결과에 영향을 주지 않음 (다음 로그인에서 재시도)
+                System.err.println("비밀번호 재해시 실패: " + user.getUsername() + " - " + e.getMessage());
             }
         }
         
-        // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getUsername());
+        // 액세스 토큰 + 리프레시 토큰 발급
+        RefreshTokenService.TokenPair tokens = refreshTokenService.issue(user);
         
         return LoginResponse.builder()
             .success(true)
             .message("로그인 성공")
-            .token(token)
+            .token(tokens.getAccessToken())
+            .refreshToken(tokens.getRefreshToken())
             .username(user.getUsername())
             .nickname(user.getNickname())
             .build();
     }
     
-    public String getUsernameFromToken(String token) {
-        return jwtUtil.getUsernameFromToken(token);
+    /**
+     * 리프레시 토큰 회전 - 새 액세스/리프레시 토큰 발급
+     */
+    public LoginResponse refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new RuntimeException("리프레시 토큰이 필요합니다.");
+        }
+        
+        RefreshTokenService.TokenPair tokens = refreshTokenService.rotate(refreshToken);
+        return LoginResponse.builder()
+            .success(true)
+            .message("토큰 갱신 성공")
+            .token(tokens.getAccessToken())
+            .refreshToken(tokens.getRefreshToken())
+            .username(tokens.getUser().getUsername())
+            .nickname(tokens.getUser().getNickname())
+            .build();
+    }
+    
+    public void logout(String refreshToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
     }
     
     public com.project.dto.UserProfileResponse getUserProfile(String username) {
@@ -167,6 +199,7 @@ public class UserService {
         
         user.setUsername(request.getNewUsername());
         userRepository.save(user);
+        userSecurityCache.invalidate(currentUsername);
     }
     
     public void updateProfile(String username, com.project.dto.UpdateProfileRequest request) {
@@ -181,14 +214,16 @@ public class UserService {
         
         user.setNickname(request.getNickname());
         userRepository.save(user);
+        userSecurityCache.invalidate(username);
     }
     
     public void changePassword(String username, com.project.dto.ChangePasswordRequest request) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.setPassword(passwordHasher.encode(request.getNewPassword()));
         userRepository.save(user);
+        userSecurityCache.invalidate(username);
     }
     
     public void deleteAccount(String username) {
@@ -196,32 +231,17 @@ public class UserService {
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         userRepository.delete(user);
+        userSecurityCache.invalidate(username);
+        securityVersionRegistry.bump(user.getId());
     }
     
     public void checkUserSuspensionStatus(String username) {
-        User user = userRepository.findByUsername(username)
+        UserSecurityCache.State state = userSecurityCache.get(username)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
-        // 정지 상태 확인
-        if (user.getIsSuspended() != null && user.getIsSuspended()) {
-            // 영구 정지인 경우 (suspensionEndTime이 null)
-            if (user.getSuspensionEndTime() == null) {
-                throw new RuntimeException("SUSPENDED:영구 정지된 계정입니다. 관리자에게 문의하세요.");
-            }
-            // 기간 정지인 경우
-            else if (user.getSuspensionEndTime().isAfter(java.time.LocalDateTime.now())) {
-                // 정지 시간 포맷팅
-                java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분");
-                String formattedEndTime = user.getSuspensionEndTime().format(formatter);
-                
-                throw new RuntimeException("SUSPENDED:계정이 정지되었습니다. 정지 해제 시간: " + formattedEndTime);
-            } else {
-                // 정지 시간이 지났으면 정지 해제
-                user.setIsSuspended(false);
-                user.setSuspensionEndTime(null);
-                user.setSuspensionReason(null);
-                userRepository.save(user);
-            }
+        // 정지 기간이 지난 사용자는 통과 (DB 해제는 SuspensionExpirySweeper가 처리)
+        if (state.isSuspendedAt(LocalDateTime.now())) {
+            throw new RuntimeException("SUSPENDED:" + state.suspensionMessage());
         }
     }
 }
\ No newline at end of file
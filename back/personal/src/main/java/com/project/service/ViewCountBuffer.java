@@ -0,0 +1,140 @@
+package com.project.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 버퍼.
+ * 조회마다 게시글 행을 갱신하지 않고 락 스트라이프별 메모리 카운터에 모아 두었다가,
+ * 주기적으로 UPDATE posts SET view_count = view_count + ? 배치로 반영한다.
+ * 비정상 종료 시 유실 가능한 조회수는 최대 flush 주기(view-count.flush-interval-ms) 분량이다.
+ * 배치는 한 트랜잭션으로 반영하며(전부 또는 전무), 커밋 전까지 꺼낸 값은 inFlight에 남겨 pending()에 계속 보이게 한다.
+ */
+@Component
+public class ViewCountBuffer {
+    
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Stripe[] stripes;
+    
+    // 버퍼에서 꺼냈지만 아직 커밋되지 않은 조회수 (flush는 한 번에 하나만 실행)
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+    
+    private static class Stripe {
+        private Map<Long, Long> counts = new HashMap<>();
+    }
+    
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${view-count.stripes:64}") int stripeCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stripes = new Stripe[Integer.highestOneBit(Math.max(1, stripeCount))];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+    
+    public void increment(Long postId) {
+        Stripe stripe = stripeOf(postId);
+        synchronized (stripe) {
+            stripe.counts.merge(postId, 1L, Long::sum);
+        }
+    }
+    
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (반영 중인 배치 포함)
+     */
+    public long pending(Long postId) {
+        Stripe stripe = stripeOf(postId);
+        synchronized (stripe) {
+            return stripe.counts.getOrDefault(postId, 0L) + inFlight.getOrDefault(postId, 0L);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            System.err.println("조회수 반영 실패: " + e.getMessage());
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            int flushed = flush();
+            if (flushed > 0) {
+                System.out.println("종료 전 조회수 반영 완료: 게시글 " + flushed + "개");
+            }
+        } catch (Exception e) {
+            System.err.println("종료 전 조회수 반영 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 버퍼를 비우고 DB에 한 트랜잭션으로 반영한다. 실패하면(롤백) 꺼낸 값을 버퍼에 되돌린다.
+     */
+    public synchronized int flush() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.counts.isEmpty()) {
+                    continue;
+                }
+                // 같은 락 안에서 inFlight로 옮겨 pending()이 중간에 0을 보지 않게 함
+                inFlight.putAll(stripe.counts);
+                drained.putAll(stripe.counts);
+                stripe.counts = new HashMap<>();
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+        
+        List<Object[]> batch = new ArrayList<>(drained.size());
+        for (Map.Entry<Long, Long> e : drained.entrySet()) {
+            batch.add(new Object[]{e.getValue(), e.getKey()});
+        }
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (RuntimeException e) {
+            // 롤백되어 아무것도 반영되지 않았으므로 전부 버퍼로 되돌림
+            drained.forEach((postId, count) -> {
+                Stripe stripe = stripeOf(postId);
+                synchronized (stripe) {
+                    stripe.counts.merge(postId, count, Long::sum);
+                    inFlight.remove(postId);
+                }
+            });
+            throw e;
+        }
+        
+        drained.keySet().forEach(postId -> {
+            Stripe stripe = stripeOf(postId);
+            synchronized (stripe) {
+                inFlight.remove(postId);
+            }
+        });
+        return drained.size();
+    }
+    
+    private Stripe stripeOf(Long postId) {
+        return stripes[Long.hashCode(postId) & (stripes.length - 1)];
+    }
+}
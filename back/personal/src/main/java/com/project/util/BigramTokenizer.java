@@ -0,0 +1,79 @@
+package com.project.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저.
+ * 한글/한자/일본어처럼 띄어쓰기로 형태소를 나누기 어려운 문자열은 글자 단위 바이그램으로,
+ * 그 외 영문/숫자는 소문자 단어 단위로 자른다.
+ * 예) "스프링부트 JPA" -> [스프, 프링, 링부, 부트, jpa]
+ */
+public final class BigramTokenizer {
+    
+    private BigramTokenizer() {
+    }
+    
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean runIsCjk = false;
+        
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, runIsCjk, tokens);
+                continue;
+            }
+            
+            boolean cjk = isCjk(codePoint);
+            if (run.length() > 0 && cjk != runIsCjk) {
+                flush(run, runIsCjk, tokens);
+            }
+            runIsCjk = cjk;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, runIsCjk, tokens);
+        
+        return tokens;
+    }
+    
+    private static void flush(StringBuilder run, boolean cjk, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+        String value = run.toString();
+        run.setLength(0);
+        
+        if (!cjk) {
+            tokens.add(value);
+            return;
+        }
+        
+        int[] codePoints = value.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(value);
+            return;
+        }
+        for (int j = 0; j + 1 < codePoints.length; j++) {
+            tokens.add(new String(codePoints, j, 2));
+        }
+    }
+    
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
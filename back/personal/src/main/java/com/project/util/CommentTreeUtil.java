@@ -0,0 +1,46 @@
+package com.project.util;
+
+import com.project.dto.CommentResponse;
+import com.project.entity.Comment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 한 게시글의 댓글 전체(평면 목록)를 메모리에서 트리로 조립한다.
+ * 깊이 제한 없이 O(n) - 댓글마다 부모를 id 맵에서 한 번 찾는다.
+ */
+public final class CommentTreeUtil {
+    
+    private CommentTreeUtil() {
+    }
+    
+    /**
+     * 루트 댓글 목록을 반환한다. 입력 순서(작성 시간순)가 형제 사이의 순서가 된다.
+     * 부모가 삭제되어 없는 댓글은 트리에 붙일 곳이 없으므로 제외한다.
+     */
+    public static List<CommentResponse> build(List<Comment> comments, Function<Comment, CommentResponse> converter) {
+        Map<Long, CommentResponse> byId = new LinkedHashMap<>();
+        for (Comment comment : comments) {
+            CommentResponse response = converter.apply(comment);
+            response.setReplies(new ArrayList<>());
+            byId.put(comment.getId(), response);
+        }
+        
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentResponse response : byId.values()) {
+            if (response.getParentId() == null) {
+                roots.add(response);
+                continue;
+            }
+            CommentResponse parent = byId.get(response.getParentId());
+            if (parent != null) {
+                parent.getReplies().add(response);
+            }
+        }
+        return roots;
+    }
+}
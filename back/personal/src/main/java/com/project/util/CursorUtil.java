@@ -0,0 +1,43 @@
+package com.project.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 커서 인코더/디코더.
+ * (createdAt, id) 조합을 URL-safe Base64 문자열로 변환한다.
+ */
+public final class CursorUtil {
+    
+    private CursorUtil() {
+    }
+    
+    @Data
+    @AllArgsConstructor
+    public static class Cursor {
+        private LocalDateTime createdAt;
+        private Long id;
+    }
+    
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt.toString() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+            Long id = Long.parseLong(raw.substring(separator + 1));
+            return new Cursor(createdAt, id);
+        } catch (Exception e) {
+            throw new RuntimeException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 확률적 자료구조(HyperLogLog, Bloom filter)용 64비트 해시.
+ * FNV-1a로 바이트를 섞은 뒤 MurmurHash3의 fmix64로 비트를 고르게 퍼뜨린다.
+ */
+public final class Hashing {
+    
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private Hashing() {
+    }
+    
+    public static long hash64(String value, long seed) {
+        long h = FNV_OFFSET ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= FNV_PRIME;
+        }
+        return fmix64(h);
+    }
+    
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.util;
+
+/**
+ * 고유 방문자 수 추정용 HyperLogLog.
+ * 레지스터 2^precision 바이트만 사용하며, precision=10이면 1KB에 표준 오차 약 3.2%.
+ */
+public class HyperLogLog {
+    
+    private final int precision;
+    private final byte[] registers;
+    
+    public HyperLogLog(int precision) {
+        this(precision, new byte[1 << precision]);
+    }
+    
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+    
+    /**
+     * 직렬화된 레지스터로 복원 (길이가 맞지 않으면 빈 스케치)
+     */
+    public static HyperLogLog fromBytes(int precision, byte[] bytes) {
+        if (bytes == null || bytes.length != (1 << precision)) {
+            return new HyperLogLog(precision);
+        }
+        return new HyperLogLog(precision, bytes.clone());
+    }
+    
+    /**
+     * 해시 값을 추가하고, 레지스터가 바뀌었으면 true
+     */
+    public boolean add(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long rest = hash << precision;
+        int rank = Math.min(Long.numberOfLeadingZeros(rest) + 1, 64 - precision + 1);
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+            return true;
+        }
+        return false;
+    }
+    
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        
+        // 작은 범위 보정 (linear counting)
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+    
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+}
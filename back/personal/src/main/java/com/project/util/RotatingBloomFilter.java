@@ -0,0 +1,72 @@
+package com.project.util;
+
+import java.util.BitSet;
+
+/**
+ * 시간 창(window) 기반 Bloom filter.
+ * 현재/이전 두 세대의 비트셋을 두고 window마다 세대를 교체하므로,
+ * 한 번 본 키는 최소 window, 최대 2*window 동안 "이미 본 키"로 판정된다.
+ * 메모리는 비트 수 * 2로 고정되며, 오탐(false positive) 시 새 키를 본 것으로 잘못 판정할 수 있다.
+ */
+public class RotatingBloomFilter {
+    
+    private final int bits;
+    private final int hashCount;
+    private final long windowMillis;
+    
+    private BitSet current;
+    private BitSet previous;
+    private long currentStartedAt;
+    
+    public RotatingBloomFilter(int bits, int hashCount, long windowMillis) {
+        this.bits = bits;
+        this.hashCount = hashCount;
+        this.windowMillis = windowMillis;
+        this.current = new BitSet(bits);
+        this.previous = new BitSet(bits);
+        this.currentStartedAt = System.currentTimeMillis();
+    }
+    
+    /**
+     * 창 안에서 처음 보는 키면 기록하고 true, 이미 본 키면 false
+     */
+    public synchronized boolean addIfAbsent(String key) {
+        rotateIfNeeded();
+        
+        long h1 = Hashing.hash64(key, 0);
+        long h2 = Hashing.hash64(key, 0x9e3779b97f4a7c15L);
+        
+        boolean inCurrent = true;
+        boolean inPrevious = true;
+        int[] positions = new int[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            // 이중 해싱 (Kirsch-Mitzenmacher)
+            positions[i] = (int) Long.remainderUnsigned(h1 + i * h2, bits);
+            inCurrent &= current.get(positions[i]);
+            inPrevious &= previous.get(positions[i]);
+        }
+        
+        if (inCurrent) {
+            return false;
+        }
+        for (int position : positions) {
+            current.set(position);
+        }
+        return !inPrevious;
+    }
+    
+    private void rotateIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (now - currentStartedAt < windowMillis) {
+            return;
+        }
+        if (now - currentStartedAt >= 2 * windowMillis) {
+            // 두 창 이상 지났으면 이전 세대도 만료
+            previous = new BitSet(bits);
+        } else {
+            previous = current;
+        }
+        current = new BitSet(bits);
+        currentStartedAt = now;
+    }
+}
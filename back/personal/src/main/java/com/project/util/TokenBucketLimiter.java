@@ -0,0 +1,109 @@
+package com.project.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 키별 토큰 버킷 요청 제한기.
+ * 버킷은 락을 나눈(lock striping) 해시맵에 보관해 서로 다른 키끼리는 경합하지 않으며,
+ * 토큰은 요청 시점에 경과 시간만큼 채우므로 별도의 충전 스레드가 필요 없다.
+ * 가득 찰 만큼 오래 쓰이지 않은 버킷은 새 버킷과 같으므로 prune()에서 제거한다.
+ */
+public class TokenBucketLimiter {
+    
+    private final Map<String, Bucket>[] stripes;
+    private final int mask;
+    
+    private static class Bucket {
+        private double tokens;
+        private long updatedAt; // nanoTime
+        private double capacity;
+        private double refillPerNano;
+        
+        private Bucket(double capacity, double refillPerNano, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+            this.capacity = capacity;
+            this.refillPerNano = refillPerNano;
+        }
+        
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - updatedAt) * refillPerNano);
+            updatedAt = now;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    public TokenBucketLimiter(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Map[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new HashMap<>();
+        }
+        this.mask = size - 1;
+    }
+    
+    /**
+     * 토큰 하나를 소비한다. 허용되면 0, 거절되면 다음 토큰까지 남은 나노초를 반환한다.
+     */
+    public long tryAcquire(String key, int capacity, double refillPerSecond) {
+        long now = System.nanoTime();
+        double refillPerNano = refillPerSecond / 1_000_000_000.0;
+        Map<String, Bucket> stripe = stripeOf(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, refillPerNano, now);
+                stripe.put(key, bucket);
+            } else {
+                bucket.capacity = capacity;
+                bucket.refillPerNano = refillPerNano;
+                bucket.refill(now);
+            }
+            
+            if (bucket.tokens >= 1.0) {
+                bucket.tokens -= 1.0;
+                return 0;
+            }
+            return (long) Math.ceil((1.0 - bucket.tokens) / refillPerNano);
+        }
+    }
+    
+    /**
+     * 다시 가득 찬 버킷 제거 (제거해도 다음 요청에서 가득 찬 새 버킷이 만들어지므로 동작은 같다)
+     */
+    public int prune() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Bucket> it = stripe.values().iterator();
+                while (it.hasNext()) {
+                    Bucket bucket = it.next();
+                    bucket.refill(now);
+                    if (bucket.tokens >= bucket.capacity) {
+                        it.remove();
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+    
+    public int size() {
+        int size = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+    
+    private Map<String, Bucket> stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+}
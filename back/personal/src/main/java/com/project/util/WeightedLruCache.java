@@ -0,0 +1,153 @@
+package com.project.util;
+
+import com.project.dto.CacheStatsResponse;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 가중치(추정 바이트) 기반 LRU 캐시.
+ * 전체 가중치가 maxWeight를 넘으면 가장 오래 사용되지 않은 항목부터 제거하며,
+ * ttlMillis가 0보다 크면 만료된 항목은 조회 시 제거된다.
+ */
+public class WeightedLruCache<K, V> {
+    
+    private final String name;
+    private final long maxWeight;
+    private final long ttlMillis;
+    private final ToLongFunction<V> weigher;
+    
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight = 0;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    private static class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long createdAt;
+        
+        private Entry(V value, long weight, long createdAt) {
+            this.value = value;
+            this.weight = weight;
+            this.createdAt = createdAt;
+        }
+    }
+    
+    public WeightedLruCache(String name, long maxWeight, long ttlMillis, ToLongFunction<V> weigher) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.ttlMillis = ttlMillis;
+        this.weigher = weigher;
+    }
+    
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (isExpired(entry)) {
+            removeEntry(key);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+    
+    public synchronized void put(K key, V value) {
+        store(key, value, System.currentTimeMillis());
+    }
+    
+    /**
+     * 캐시에 존재하는 항목만 새 값으로 교체한다.
+     * 생성 시각은 원래 항목 것을 유지하므로 자주 갱신되는 항목도 TTL이 지나면 만료된다.
+     */
+    public synchronized void computeIfPresent(K key, UnaryOperator<V> updater) {
+        Entry<V> entry = map.get(key);
+        if (entry == null || isExpired(entry)) {
+            return;
+        }
+        V updated = updater.apply(entry.value);
+        if (updated == null) {
+            removeEntry(key);
+        } else {
+            store(key, updated, entry.createdAt);
+        }
+    }
+    
+    public synchronized void invalidate(K key) {
+        removeEntry(key);
+    }
+    
+    public synchronized void invalidateIf(Predicate<V> predicate) {
+        Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Entry<V>> e = it.next();
+            if (predicate.test(e.getValue().value)) {
+                totalWeight -= e.getValue().weight;
+                it.remove();
+            }
+        }
+    }
+    
+    public synchronized void clear() {
+        map.clear();
+        totalWeight = 0;
+    }
+    
+    public synchronized CacheStatsResponse stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(map.size())
+                .weight(totalWeight)
+                .maxWeight(maxWeight)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .evictionCount(evictions.get())
+                .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+                .build();
+    }
+    
+    private void store(K key, V value, long createdAt) {
+        long weight = Math.max(1, weigher.applyAsLong(value));
+        if (weight > maxWeight) {
+            // 단일 항목이 캐시 전체보다 크면 저장하지 않음
+            removeEntry(key);
+            return;
+        }
+        removeEntry(key);
+        map.put(key, new Entry<>(value, weight, createdAt));
+        totalWeight += weight;
+        
+        Iterator<Map.Entry<K, Entry<V>>> it = map.entrySet().iterator();
+        while (totalWeight > maxWeight && it.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = it.next();
+            totalWeight -= eldest.getValue().weight;
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+    
+    private boolean isExpired(Entry<V> entry) {
+        return ttlMillis > 0 && System.currentTimeMillis() - entry.createdAt > ttlMillis;
+    }
+    
+    private void removeEntry(K key) {
+        Entry<V> removed = map.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+}
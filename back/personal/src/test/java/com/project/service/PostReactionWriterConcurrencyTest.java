@@ -0,0 +1,120 @@
+package com.project.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한 게시글에 여러 스레드가 동시에 토글을 퍼부은 뒤
+ * post_likes 행과 posts 카운터가 일치하는지 확인한다. (H2 MySQL 호환 모드)
+ */
+class PostReactionWriterConcurrencyTest {
+    
+    private static final long POST_ID = 1L;
+    private static final int THREADS = 16;
+    
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PostReactionWriter writer;
+    
+    @BeforeEach
+    void setUp() {
+        SimpleDriverDataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(),
+                "jdbc:h2:mem:reactions_" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        writer = new PostReactionWriter(jdbcTemplate);
+        
+        jdbcTemplate.execute("CREATE TABLE posts (id BIGINT PRIMARY KEY, " +
+                "like_count INT NOT NULL DEFAULT 0, dislike_count INT NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE post_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "post_id BIGINT NOT NULL, user_id BIGINT NOT NULL, like_type VARCHAR(255) NOT NULL, " +
+                "created_at TIMESTAMP, CONSTRAINT uk_post_likes_post_user UNIQUE (post_id, user_id))");
+        jdbcTemplate.update("INSERT INTO posts (id) VALUES (?)", POST_ID);
+    }
+    
+    @Test
+    void distinctUsersLikingConcurrentlyAreAllCounted() throws Exception {
+        int users = 200;
+        hammer(users, i -> toggle((long) i, "like"));
+        
+        assertCounts(users, 0);
+    }
+    
+    @Test
+    void sameUserDoubleClicksCancelOut() throws Exception {
+        // 같은 사용자의 좋아요 토글 짝수 번 -> 최종적으로 아무 반응도 없어야 한다
+        hammer(400, i -> toggle(7L, "like"));
+        
+        assertCounts(0, 0);
+        assertEquals(0, rowCount());
+    }
+    
+    @Test
+    void randomTogglesKeepCountersInSyncWithRows() throws Exception {
+        hammer(4000, i -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            toggle((long) random.nextInt(30), random.nextBoolean() ? "like" : "dislike");
+        });
+        
+        Integer likeRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_likes WHERE post_id = ? AND like_type = 'like'", Integer.class, POST_ID);
+        Integer dislikeRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_likes WHERE post_id = ? AND like_type = 'dislike'", Integer.class, POST_ID);
+        assertCounts(likeRows, dislikeRows);
+        assertEquals(likeRows + dislikeRows, rowCount());
+    }
+    
+    private void toggle(Long userId, String likeType) {
+        transactionTemplate.executeWithoutResult(status -> writer.toggle(POST_ID, userId, likeType));
+    }
+    
+    private void hammer(int operations, IntConsumer operation) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < operations; i++) {
+                int index = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    operation.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+    
+    private void assertCounts(int likes, int dislikes) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT like_count, dislike_count FROM posts WHERE id = ?", POST_ID);
+        assertEquals(likes, ((Number) row.get("like_count")).intValue());
+        assertEquals(dislikes, ((Number) row.get("dislike_count")).intValue());
+    }
+    
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes WHERE post_id = ?", Integer.class, POST_ID);
+    }
+}
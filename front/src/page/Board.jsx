@@ -6,8 +6,9 @@ const Board = () => {
   const navigate = useNavigate();
   const [posts, setPosts] = useState([]);
   const [loading, setLoading] = useState(true);
-  const [currentPage, setCurrentPage] = useState(1);
-  const [totalPages, setTotalPages] = useState(1);
+  // 커서 페이지네이션 - 지나온 페이지들의 시작 커서 (첫 페이지는 null)
+  const [cursorStack, setCursorStack] = useState([null]);
+  const [nextCursor, setNextCursor] = useState(null);
   const postsPerPage = 10;
 
   useEffect(() => {
@@ -22,22 +23,19 @@ const Board = () => {
     fetchPosts();
   }, [navigate]);
 
-  const fetchPosts = async (page = 1) => {
+  const fetchPosts = async (cursor = null) => {
     try {
-      const response = await apiGet(`/api/posts?page=${page}&size=${postsPerPage}`);
+      const params = new URLSearchParams({ size: postsPerPage });
+      if (cursor) {
+        params.append('cursor', cursor);
+      }
+      const response = await apiGet(`/api/posts/feed?${params.toString()}`);
 
       if (response.ok) {
         const data = await response.json();
-        if (data.content) {
-          // 페이지네이션 응답인 경우
-          setPosts(data.content);
-          setTotalPages(data.totalPages);
-          setCurrentPage(data.number + 1);
-        } else {
-          // 단순 배열 응답인 경우 (현재 백엔드)
-          setPosts(data);
-          setTotalPages(Math.ceil(data.length / postsPerPage));
-        }
+        setPosts(data.posts);
+        setNextCursor(data.nextCursor);
+        return true;
       }
     } catch (error) {
       console.error('게시글 조회 오류:', error);
@@ -45,6 +43,7 @@ const Board = () => {
     } finally {
       setLoading(false);
     }
+    return false;
   };
 
   const handleWriteClick = () => {
@@ -55,84 +54,54 @@ const Board = () => {
     navigate(`/read/${postId}`);
   };
 
-  const handlePageChange = (page) => {
-    if (page >= 1 && page <= totalPages) {
-      setCurrentPage(page);
-      fetchPosts(page);
+  const handleNextPage = async () => {
+    if (nextCursor && await fetchPosts(nextCursor)) {
+      setCursorStack(prev => [...prev, nextCursor]);
+    }
+  };
+
+  const handlePrevPage = async () => {
+    if (cursorStack.length > 1) {
+      const prevStack = cursorStack.slice(0, -1);
+      if (await fetchPosts(prevStack[prevStack.length - 1])) {
+        setCursorStack(prevStack);
+      }
     }
   };
 
+  const pageButtonStyle = {
+    padding: '8px 12px',
+    margin: '0 2px',
+    backgroundColor: 'white',
+    border: '1px solid #ddd',
+    borderRadius: '4px',
+    cursor: 'pointer',
+    fontSize: '14px'
+  };
+
   const renderPagination = () => {
     const pages = [];
-    const maxVisiblePages = 5;
-    
-    let startPage = Math.max(1, currentPage - Math.floor(maxVisiblePages / 2));
-    let endPage = Math.min(totalPages, startPage + maxVisiblePages - 1);
-    
-    if (endPage - startPage + 1 < maxVisiblePages) {
-      startPage = Math.max(1, endPage - maxVisiblePages + 1);
-    }
 
     // 이전 버튼
-    if (currentPage > 1) {
+    if (cursorStack.length > 1) {
       pages.push(
-        <button
-          key="prev"
-          onClick={() => handlePageChange(currentPage - 1)}
-          style={{
-            padding: '8px 12px',
-            margin: '0 2px',
-            backgroundColor: 'white',
-            border: '1px solid #ddd',
-            borderRadius: '4px',
-            cursor: 'pointer',
-            fontSize: '14px'
-          }}
-        >
+        <button key="prev" onClick={handlePrevPage} style={pageButtonStyle}>
           이전
         </button>
       );
     }
 
-    // 페이지 번호들
-    for (let i = startPage; i <= endPage; i++) {
-      pages.push(
-        <button
-          key={i}
-          onClick={() => handlePageChange(i)}
-          style={{
-            padding: '8px 12px',
-            margin: '0 2px',
-            backgroundColor: i === currentPage ? '#007bff' : 'white',
-            color: i === currentPage ? 'white' : '#333',
-            border: '1px solid #ddd',
-            borderRadius: '4px',
-            cursor: 'pointer',
-            fontSize: '14px',
-            fontWeight: i === currentPage ? 'bold' : 'normal'
-          }}
-        >
-          {i}
-        </button>
-      );
-    }
+    // 현재 페이지 번호
+    pages.push(
+      <span key="current" style={{ padding: '8px 12px', fontSize: '14px', fontWeight: 'bold' }}>
+        {cursorStack.length}
+      </span>
+    );
 
     // 다음 버튼
-    if (currentPage < totalPages) {
+    if (nextCursor) {
       pages.push(
-        <button
-          key="next"
-          onClick={() => handlePageChange(currentPage + 1)}
-          style={{
-            padding: '8px 12px',
-            margin: '0 2px',
-            backgroundColor: 'white',
-            border: '1px solid #ddd',
-            borderRadius: '4px',
-            cursor: 'pointer',
-            fontSize: '14px'
-          }}
-        >
+        <button key="next" onClick={handleNextPage} style={pageButtonStyle}>
           다음
         </button>
       );
@@ -267,7 +236,7 @@ const Board = () => {
       </div>
 
       {/* 페이지네이션 */}
-      {totalPages > 1 && (
+      {(cursorStack.length > 1 || nextCursor) && (
         <div style={{
           display: 'flex',
           justifyContent: 'center',
@@ -31,6 +31,9 @@ const Login = () => {
                 if (data.token) {
                     localStorage.setItem('token', data.token);
                 }
+                if (data.refreshToken) {
+                    localStorage.setItem('refreshToken', data.refreshToken);
+                }
                 if (data.nickname) {
                     localStorage.setItem('nickname', data.nickname);
                 }
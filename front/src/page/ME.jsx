@@ -87,6 +87,7 @@ const ME = () => {
             if (response.ok) {
                 alert('아이디가 변경되었습니다. 다시 로그인해주세요.');
                 localStorage.removeItem('token');
+                localStorage.removeItem('refreshToken');
                 localStorage.removeItem('nickname');
                 navigate('/login');
             } else {
@@ -147,8 +148,14 @@ const ME = () => {
         }
     };
 
-    const handleLogout = () => {
+    const handleLogout = async () => {
+        // 서버에 저장된 리프레시 토큰 폐기 (실패해도 로컬 로그아웃은 진행)
+        const refreshToken = localStorage.getItem('refreshToken');
+        if (refreshToken) {
+            await apiPost('/api/users/logout', { refreshToken }).catch(() => {});
+        }
         localStorage.removeItem('token');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('nickname');
         alert('로그아웃되었습니다.');
         navigate('/');
@@ -164,6 +171,7 @@ const ME = () => {
 
             if (response.ok) {
                 localStorage.removeItem('token');
+                localStorage.removeItem('refreshToken');
                 localStorage.removeItem('nickname');
                 alert('회원탈퇴가 완료되었습니다.');
                 navigate('/');
@@ -5,6 +5,11 @@ import { apiGet, apiPost } from '../utils/api'
 const Master = () => {
     const navigate = useNavigate();
     const [users, setUsers] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [totalCount, setTotalCount] = useState(null);
+    const [totalCountExact, setTotalCountExact] = useState(true);
+    const [searchQuery, setSearchQuery] = useState('');
+    const [appliedQuery, setAppliedQuery] = useState(''); // 현재 목록을 조회한 검색어 (더 보기에 사용)
     const [loading, setLoading] = useState(true);
     const [selectedUser, setSelectedUser] = useState(null);
     const [suspensionMinutes, setSuspensionMinutes] = useState(60);
@@ -38,13 +43,28 @@ const Master = () => {
         }
     };
 
-    const fetchUsers = async () => {
+    // cursor가 없으면 첫 페이지부터 다시 조회, 있으면 이어서 추가
+    // 검색어는 검색 버튼을 눌렀을 때만 바뀌고, 더 보기/관리 작업 후 새로고침은 현재 목록의 검색어를 그대로 사용
+    const fetchUsers = async (cursor = null, query = appliedQuery) => {
         try {
-            const response = await apiGet('/api/admin/users');
+            const params = new URLSearchParams();
+            if (query) {
+                params.append('q', query);
+            }
+            if (cursor) {
+                params.append('cursor', cursor);
+            }
+            const response = await apiGet(`/api/admin/users?${params.toString()}`);
 
             if (response.ok) {
                 const data = await response.json();
-                setUsers(data);
+                setUsers(prev => cursor ? [...prev, ...data.users] : data.users);
+                setNextCursor(data.nextCursor);
+                if (!cursor) {
+                    setAppliedQuery(query);
+                    setTotalCount(data.totalCount);
+                    setTotalCountExact(data.totalCountExact);
+                }
             } else {
                 const errorData = await response.json();
                 alert(errorData.message || '사용자 목록을 불러오는데 실패했습니다.');
@@ -264,7 +284,39 @@ const Master = () => {
                     backgroundColor: '#f8f9fa',
                     borderBottom: '1px solid #ddd'
                 }}>
-                    <h2 style={{ margin: '0', fontSize: '18px' }}>사용자 관리</h2>
+                    <h2 style={{ margin: '0', fontSize: '18px' }}>
+                        사용자 관리
+                        {totalCount !== null && (
+                            <span style={{ marginLeft: '8px', fontSize: '14px', color: '#666', fontWeight: 'normal' }}>
+                                ({totalCountExact ? '' : '약 '}{totalCount}명)
+                            </span>
+                        )}
+                    </h2>
+                    <form
+                        onSubmit={(e) => { e.preventDefault(); fetchUsers(null, searchQuery.trim()); }}
+                        style={{ marginTop: '12px', display: 'flex', gap: '8px' }}
+                    >
+                        <input
+                            type="text"
+                            value={searchQuery}
+                            onChange={(e) => setSearchQuery(e.target.value)}
+                            placeholder="아이디 또는 닉네임 (앞부분 일치)"
+                            style={{ flex: 1, padding: '8px', border: '1px solid #ddd', borderRadius: '4px' }}
+                        />
+                        <button
+                            type="submit"
+                            style={{
+                                padding: '8px 16px',
+                                backgroundColor: '#007bff',
+                                color: 'white',
+                                border: 'none',
+                                borderRadius: '4px',
+                                cursor: 'pointer'
+                            }}
+                        >
+                            검색
+                        </button>
+                    </form>
                 </div>
 
                 <div style={{ overflowX: 'auto' }}>
@@ -403,6 +455,24 @@ const Master = () => {
                         </tbody>
                     </table>
                 </div>
+
+                {nextCursor && (
+                    <div style={{ padding: '16px', textAlign: 'center' }}>
+                        <button
+                            onClick={() => fetchUsers(nextCursor)}
+                            style={{
+                                padding: '8px 24px',
+                                backgroundColor: '#6c757d',
+                                color: 'white',
+                                border: 'none',
+                                borderRadius: '4px',
+                                cursor: 'pointer'
+                            }}
+                        >
+                            더 보기
+                        </button>
+                    </div>
+                )}
             </div>
 
             {/* 사용자 정지 모달 */}
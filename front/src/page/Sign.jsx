@@ -49,6 +49,9 @@ const Sign = () => {
                 if (data.token) {
                     localStorage.setItem('token', data.token);
                 }
+                if (data.refreshToken) {
+                    localStorage.setItem('refreshToken', data.refreshToken);
+                }
                 navigate('/login');
             } else {
                 alert(data.message || '회원가입에 실패했습니다.');
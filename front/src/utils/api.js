@@ -4,6 +4,7 @@ const API_BASE_URL = 'http://localhost:8080';
 // 자동 로그아웃 처리 함수
 const handleUnauthorized = () => {
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('username');
     localStorage.removeItem('nickname');
     
@@ -14,8 +15,55 @@ const handleUnauthorized = () => {
     }
 };
 
+// 진행 중인 토큰 갱신 요청 - 동시에 만료된 여러 요청이 같은 리프레시 토큰으로 각각 갱신하지 않도록 공유
+let refreshPromise = null;
+
+// 액세스 토큰 만료 시 리프레시 토큰으로 재발급 (성공 시 true)
+const refreshAccessToken = (usedToken) => {
+    // 이 요청이 실패한 사이 다른 요청이 이미 갱신했으면 새 토큰으로 재시도만 하면 됨
+    const currentToken = localStorage.getItem('token');
+    if (!refreshPromise && currentToken && currentToken !== usedToken) {
+        return Promise.resolve(true);
+    }
+    if (!refreshPromise) {
+        refreshPromise = requestTokenRefresh().finally(() => {
+            refreshPromise = null;
+        });
+    }
+    return refreshPromise;
+};
+
+const requestTokenRefresh = async () => {
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (!refreshToken) {
+        return false;
+    }
+
+    try {
+        const response = await fetch(`${API_BASE_URL}/api/users/refresh`, {
+            method: 'POST',
+            headers: { 'Content-Type': 'application/json' },
+            body: JSON.stringify({ refreshToken })
+        });
+        const data = await response.json().catch(() => ({}));
+
+        if (response.ok && data.success && data.token) {
+            localStorage.setItem('token', data.token);
+            localStorage.setItem('refreshToken', data.refreshToken);
+            return true;
+        }
+    } catch (error) {
+        console.error('토큰 갱신 실패:', error);
+    }
+
+    // 갱신 실패 - 저장된 토큰 제거 (다시 로그인 필요)
+    localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
+    return false;
+};
+
 // 공통 fetch 함수
-export const apiRequest = async (url, options = {}) => {
+export const apiRequest = async (url, options = {}, retried = false) => {
     const token = localStorage.getItem('token');
     
     const defaultOptions = {
@@ -40,7 +88,12 @@ export const apiRequest = async (url, options = {}) => {
         
         // 401 Unauthorized 응답 처리
         if (response.status === 401) {
-            const errorData = await response.json().catch(() => ({}));
+            const errorData = await response.clone().json().catch(() => ({}));
+            
+            // 액세스 토큰 만료 - 한 번만 갱신 후 재시도
+            if (!retried && errorData.error && errorData.error.includes('만료') && await refreshAccessToken(token)) {
+                return apiRequest(url, options, true);
+            }
             
             // 정지 관련 에러인 경우 자동 로그아웃
             if (errorData.error && (
@@ -88,7 +141,7 @@ export const apiDelete = (url, options = {}) => {
 };
 
 // FormData 전용 POST 요청 (파일 업로드용)
-export const apiPostFormData = async (url, formData, options = {}) => {
+export const apiPostFormData = async (url, formData, options = {}, retried = false) => {
     const token = localStorage.getItem('token');
     
     const finalOptions = {
@@ -106,7 +159,12 @@ export const apiPostFormData = async (url, formData, options = {}) => {
         
         // 401 Unauthorized 응답 처리
         if (response.status === 401) {
-            const errorData = await response.json().catch(() => ({}));
+            const errorData = await response.clone().json().catch(() => ({}));
+            
+            // 액세스 토큰 만료 - 한 번만 갱신 후 재시도
+            if (!retried && errorData.error && errorData.error.includes('만료') && await refreshAccessToken(token)) {
+                return apiPostFormData(url, formData, options, true);
+            }
             
             // 정지 관련 에러인 경우 자동 로그아웃
             if (errorData.error && (
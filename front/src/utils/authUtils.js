@@ -7,6 +7,7 @@ export const handleSuspensionError = (error, navigate) => {
     )) {
         // 정지된 사용자는 자동 로그아웃
         localStorage.removeItem('token');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('nickname');
         alert('계정이 정지되어 로그아웃됩니다.\n\n' + error.message);
         navigate('/login');
@@ -25,6 +26,7 @@ export const checkSuspensionInResponse = async (response, navigate) => {
             errorData.message.includes('영구 정지')
         )) {
             localStorage.removeItem('token');
+            localStorage.removeItem('refreshToken');
             localStorage.removeItem('nickname');
             alert('계정이 정지되어 로그아웃됩니다.\n\n' + errorData.message);
             navigate('/login');